@@ -1,26 +1,151 @@
 package com.framework.pages;
 
+import com.framework.utils.BatchActions;
+import com.framework.utils.ConfigReader;
+import com.framework.utils.DriverManager;
+import com.framework.utils.Dropdown;
+import com.framework.utils.ElementReader;
+import com.framework.utils.FrameContextTracker;
+import com.framework.utils.LoggerUtil;
+import com.framework.utils.ReadCacheDecorator;
 import com.framework.utils.Wait;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public abstract class BasePage {
     protected WebDriver driver;
     protected Wait wait;
+    protected ElementReader reader;
+    protected BatchActions batch;
+
+    // Thread that built the page; the caches below belong to its session and are bypassed on other threads
+    private final Thread owner = Thread.currentThread();
+
+    // Prefetched element states, keyed by PageFactory proxy identity (proxy equals/hashCode hit the driver)
+    private final Map<WebElement, ElementReader.ElementState> prefetched = new IdentityHashMap<>();
+    private ReadCacheDecorator prefetchTracker;
+    private long prefetchMutationCount;
+    private long prefetchExpiresAt;
+
+    // One Dropdown per select element, so its option snapshot is reused between calls
+    private final Map<WebElement, Dropdown> dropdowns = new IdentityHashMap<>();
 
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new Wait(driver);
+        this.reader = new ElementReader(driver);
+        this.batch = new BatchActions(driver);
         PageFactory.initElements(driver, this);
-        switchToDefaultContent(); // Always start from the main frame
+        switchToPageContext(); // Always start from the frame the page lives in (main frame by default)
+        if (getClass().isAnnotationPresent(PrefetchElements.class)) {
+            prefetchElements();
+        }
+    }
+
+    /**
+     * Resolve every single-element @FindBy field of the page in one script call and remember
+     * whether each is displayed / enabled and its text, until the next mutating command or
+     * prefetch.maxAgeMillis, whichever comes first: the page may change on its own (timers, XHR) without
+     * any command, but much more rarely than between two polls of a wait, so this outlives the read cache
+     */
+    private void prefetchElements() {
+        ReadCacheDecorator tracker = DriverManager.getReadCache();
+        if (tracker == null) {
+            LoggerUtil.debug("Prefetch skipped for " + getClass().getSimpleName() + ": read cache is disabled");
+            return;
+        }
+
+        List<WebElement> elements = new ArrayList<>();
+        List<By> locators = new ArrayList<>();
+        for (Class<?> type = getClass(); type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (field.getType() != WebElement.class || !field.isAnnotationPresent(FindBy.class)) {
+                    continue;
+                }
+                By locator = new Annotations(field).buildBy();
+                if (!ElementReader.isScriptResolvable(locator)) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    elements.add((WebElement) field.get(this));
+                    locators.add(locator);
+                } catch (IllegalAccessException e) {
+                    LoggerUtil.warn("Cannot prefetch field " + field.getName() + ": " + e.getMessage());
+                }
+            }
+        }
+
+        List<ElementReader.ElementState> states = reader.getStates(locators);
+        for (int i = 0; i < states.size(); i++) {
+            prefetched.put(elements.get(i), states.get(i));
+        }
+        prefetchTracker = tracker;
+        prefetchMutationCount = tracker.getMutationCount();
+        prefetchExpiresAt = System.currentTimeMillis()
+                + Long.parseLong(ConfigReader.getProperty("prefetch.maxAgeMillis", "5000"));
+    }
+
+    /**
+     * Prefetched state of a displayed element, or null when it must be read live
+     * (no prefetch, page mutated or snapshot expired since, unknown field, or element not displayed yet)
+     */
+    private ElementReader.ElementState getPrefetchedState(WebElement element) {
+        if (prefetched.isEmpty() || Thread.currentThread() != owner) {
+            return null;
+        }
+        if (prefetchTracker.getMutationCount() != prefetchMutationCount
+                || System.currentTimeMillis() > prefetchExpiresAt) {
+            prefetched.clear();
+            return null;
+        }
+        ElementReader.ElementState state = prefetched.get(element);
+        return state != null && state.displayed() ? state : null;
     }
 
     protected void switchToDefaultContent() {
         driver.switchTo().defaultContent();
     }
 
+    /**
+     * Switch to the frame declared with @PageFrame, or to the main frame when none is declared.
+     * No command is sent when the frame context tracker knows the session is already there.
+     */
+    protected void switchToPageContext() {
+        PageFrame pageFrame = getClass().getAnnotation(PageFrame.class);
+        if (pageFrame == null) {
+            switchToDefaultContent();
+            return;
+        }
+        FrameContextTracker tracker = DriverManager.getFrameTracker();
+        if (tracker != null && tracker.isInFrame(List.of(pageFrame.value()))) {
+            return;
+        }
+        driver.switchTo().defaultContent();
+        for (String frameId : pageFrame.value()) {
+            wait.waitForFrameAndSwitch(frameId);
+        }
+    }
+
+    /**
+     * Switch from the main frame into the given frame; no-op when the session is already inside it
+     */
     protected void switchToFrame(String frameId) {
+        FrameContextTracker tracker = DriverManager.getFrameTracker();
+        if (tracker != null && tracker.isInFrame(List.of(frameId))) {
+            return;
+        }
         wait.waitForFrameAndSwitch(frameId);
     }
 
@@ -42,10 +167,17 @@ public abstract class BasePage {
     }
 
     protected boolean isElementDisplayed(WebElement element) {
+        if (getPrefetchedState(element) != null) {
+            return true;
+        }
         return wait.isElementDisplayed(element);
     }
 
     protected boolean isElementEnabled(WebElement element) {
+        ElementReader.ElementState state = getPrefetchedState(element);
+        if (state != null) {
+            return state.enabled();
+        }
         return wait.isElementEnabled(element);
     }
 
@@ -54,6 +186,10 @@ public abstract class BasePage {
     }
 
     protected String getElementText(WebElement element) {
+        ElementReader.ElementState state = getPrefetchedState(element);
+        if (state != null) {
+            return state.text();
+        }
         return wait.getElementText(element);
     }
 
@@ -61,6 +197,58 @@ public abstract class BasePage {
         return wait.getElementAttribute(element, attribute);
     }
 
+    // Bulk read methods - one executeScript for every element matching the locator
+    protected List<String> getAllElementTexts(By locator) {
+        return reader.getTexts(locator);
+    }
+
+    /**
+     * Bulk read of a list that may still be rendering: waits for the first of elements (the PageFactory list
+     * for the same locator) to be visible, as getElementText would, then reads every text in one script call
+     */
+    protected List<String> getAllElementTexts(List<WebElement> elements, By locator) {
+        if (!elements.isEmpty()) {
+            wait.waitForElementToBeVisible(elements.get(0));
+        }
+        return reader.getTexts(locator);
+    }
+
+    protected List<String> getAllElementAttributes(By locator, String attribute) {
+        return reader.getAttributes(locator, attribute);
+    }
+
+    protected List<Map<String, String>> getAllElementRows(By rowLocator, Map<String, String> columns) {
+        return reader.getRows(rowLocator, columns);
+    }
+
+    protected Map<String, List<String>> getElementTextGroups(Map<String, String> cssSelectors) {
+        return reader.getTextGroups(cssSelectors);
+    }
+
+    // Dropdown methods - one script call per read or selection instead of Select's per-option round-trips
+    protected Dropdown dropdown(WebElement selectElement) {
+        if (Thread.currentThread() != owner) {
+            return new Dropdown(driver, selectElement);
+        }
+        return dropdowns.computeIfAbsent(selectElement, element -> new Dropdown(driver, element));
+    }
+
+    // Batch mutation methods - one executeScript for every element matching the locator
+    protected int clickAllElements(By locator) {
+        return batch.clickAll(locator);
+    }
+
+    /**
+     * Set several form fields in one script call and verify the values the page kept
+     * @throws IllegalStateException if a field does not hold the requested value afterwards
+     */
+    protected void fillFields(List<WebElement> fields, List<String> values) {
+        List<String> actual = batch.setValues(fields, values);
+        if (!values.equals(actual)) {
+            throw new IllegalStateException("Fast fill mismatch: expected " + values + " but fields hold " + actual);
+        }
+    }
+
     protected void waitForElementToBeVisible(WebElement element) {
         wait.waitForElementToBeVisible(element);
     }
@@ -74,6 +262,10 @@ public abstract class BasePage {
         wait.waitForPageLoad();
     }
 
+    protected void waitForCondition(Function<WebDriver, Boolean> condition) {
+        wait.waitForCondition(condition);
+    }
+
     protected void waitForNumberOfWindows(int expectedWindows) {
         wait.waitForNumberOfWindows(expectedWindows);
     }
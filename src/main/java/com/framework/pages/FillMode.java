@@ -0,0 +1,17 @@
+package com.framework.pages;
+
+/**
+ * How page objects enter text into form fields
+ */
+public enum FillMode {
+    /**
+     * clear() + sendKeys() per field: real key events, exercises maxlength, masks and key handlers
+     */
+    TYPE,
+
+    /**
+     * Every field set in one script call through the native value setter (React onChange still fires),
+     * values verified in the same call. Use for forms that are a precondition, not the subject of the test.
+     */
+    FAST
+}
@@ -0,0 +1,19 @@
+package com.framework.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the frame a page object's elements live in, as frame ids/names entered from the
+ * top-level document (outermost first). BasePage switches into it when the page is constructed,
+ * and skips the switch when the session is already there.
+ *
+ * Pages without this annotation live in the top-level document.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PageFrame {
+    String[] value();
+}
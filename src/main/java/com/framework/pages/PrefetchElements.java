@@ -0,0 +1,19 @@
+package com.framework.pages;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a page object whose single-element @FindBy fields are all resolved in one script call
+ * when the page is constructed. Until the next mutating WebDriver command or prefetch.maxAgeMillis,
+ * isElementDisplayed, isElementEnabled and getElementText are answered from that snapshot instead of a
+ * round-trip each.
+ *
+ * Requires the read cache decorator (readCache.enabled=true), which tracks mutating commands.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface PrefetchElements {
+}
@@ -1,11 +1,13 @@
 package com.framework.pages.rahulshetty;
 
 import com.framework.pages.BasePage;
+import com.framework.pages.PrefetchElements;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.Select;
 
+@PrefetchElements
 public class HomePage extends BasePage {
     // Alert Section - Locators for Rahul Shetty Academy AutomationPractice
     
@@ -35,6 +37,8 @@ public class HomePage extends BasePage {
     @FindBy(css = "ul[id='ui-id-1'] li")
     private java.util.List<WebElement> suggestionList;
     
+    private static final By SUGGESTION_LOCATOR = By.cssSelector("ul[id='ui-id-1'] li");
+    
     // Dropdown Section
     @FindBy(id = "dropdown-class-example")
     private WebElement dropdownElement;
@@ -246,51 +250,38 @@ public class HomePage extends BasePage {
     }
     
     public java.util.List<String> getAllSuggestions() {
-        java.util.List<String> suggestions = new java.util.ArrayList<>();
         try {
             waitForElementToBeVisible(suggestionList.get(0));
-            for (WebElement suggestion : suggestionList) {
-                suggestions.add(getElementText(suggestion));
-            }
+            return getAllElementTexts(SUGGESTION_LOCATOR);
         } catch (Exception e) {
             // Return empty list if no suggestions found
+            return new java.util.ArrayList<>();
         }
-        return suggestions;
     }
     
     // Dropdown Methods
     public void selectDropdownByVisibleText(String text) {
-        Select dropdown = new Select(dropdownElement);
-        dropdown.selectByVisibleText(text);
+        dropdown(dropdownElement).selectByVisibleText(text);
     }
     
     public void selectDropdownByValue(String value) {
-        Select dropdown = new Select(dropdownElement);
-        dropdown.selectByValue(value);
+        dropdown(dropdownElement).selectByValue(value);
     }
     
     public void selectDropdownByIndex(int index) {
-        Select dropdown = new Select(dropdownElement);
-        dropdown.selectByIndex(index);
+        dropdown(dropdownElement).selectByIndex(index);
     }
     
     public String getSelectedDropdownText() {
-        Select dropdown = new Select(dropdownElement);
-        return dropdown.getFirstSelectedOption().getText();
+        return dropdown(dropdownElement).getFirstSelectedOption().text();
     }
     
     public String getSelectedDropdownValue() {
-        Select dropdown = new Select(dropdownElement);
-        return dropdown.getFirstSelectedOption().getAttribute("value");
+        return dropdown(dropdownElement).getFirstSelectedOption().value();
     }
     
     public java.util.List<String> getAllDropdownOptions() {
-        Select dropdown = new Select(dropdownElement);
-        java.util.List<String> options = new java.util.ArrayList<>();
-        for (WebElement option : dropdown.getOptions()) {
-            options.add(option.getText());
-        }
-        return options;
+        return dropdown(dropdownElement).getOptionTexts();
     }
     
     public boolean isDropdownDisplayed() {
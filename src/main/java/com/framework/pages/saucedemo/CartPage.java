@@ -1,6 +1,7 @@
 package com.framework.pages.saucedemo;
 
 import com.framework.pages.BasePage;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
@@ -51,6 +52,14 @@ public class CartPage extends BasePage {
     @FindBy(className = "shopping_cart_link")
     private WebElement shoppingCartLink;
 
+    // Bulk read locators - same selectors as the list fields above
+    private static final By ITEM_NAME_LOCATOR = By.className("inventory_item_name");
+    private static final By ITEM_DESCRIPTION_LOCATOR = By.className("inventory_item_desc");
+    private static final By ITEM_PRICE_LOCATOR = By.className("inventory_item_price");
+    private static final By ITEM_QUANTITY_LOCATOR = By.className("cart_quantity");
+    private static final By REMOVE_LOCATOR = By.cssSelector("button[id^='remove-']");
+    private static final By CART_BADGE_LOCATOR = By.className("shopping_cart_badge");
+
     public CartPage(WebDriver driver) {
         super(driver);
         PageFactory.initElements(driver, this);
@@ -75,27 +84,19 @@ public class CartPage extends BasePage {
     }
 
     public List<String> getAllItemNames() {
-        return itemNames.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemNames, ITEM_NAME_LOCATOR);
     }
 
     public List<String> getAllItemDescriptions() {
-        return itemDescriptions.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemDescriptions, ITEM_DESCRIPTION_LOCATOR);
     }
 
     public List<String> getAllItemPrices() {
-        return itemPrices.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemPrices, ITEM_PRICE_LOCATOR);
     }
 
     public List<String> getAllItemQuantities() {
-        return itemQuantities.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemQuantities, ITEM_QUANTITY_LOCATOR);
     }
 
     public String getItemNameByIndex(int index) {
@@ -134,16 +135,19 @@ public class CartPage extends BasePage {
         }
     }
 
+    /**
+     * Remove every cart item with one script call, then wait once for the final badge count
+     */
     public void removeAllItems() {
-        while (!removeButtons.isEmpty()) {
-            clickElement(removeButtons.get(0));
-            // Wait briefly for the DOM to update
-            try {
-                Thread.sleep(200);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-            }
-        }
+        int before = readCartBadgeValue();
+        int removed = clickAllElements(REMOVE_LOCATOR);
+        waitForCondition(d -> readCartBadgeValue() == before - removed);
+    }
+
+    // Badge read without the implicit wait: an absent badge means an empty cart
+    private int readCartBadgeValue() {
+        List<String> badge = getAllElementTexts(CART_BADGE_LOCATOR);
+        return badge.isEmpty() || badge.get(0).isEmpty() ? 0 : Integer.parseInt(badge.get(0));
     }
 
     // Navigation Button Methods
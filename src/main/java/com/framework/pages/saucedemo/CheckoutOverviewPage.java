@@ -1,12 +1,17 @@
 package com.framework.pages.saucedemo;
 
 import com.framework.pages.BasePage;
+import com.framework.utils.CommandBudget;
+import com.framework.utils.PriceUtil;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the Checkout Overview (Step Two) page where users review their order
@@ -61,6 +66,24 @@ public class CheckoutOverviewPage extends BasePage {
     @FindBy(className = "shopping_cart_badge")
     private WebElement cartBadge;
 
+    // Bulk read locators - same selectors as the list fields above
+    private static final By ITEM_NAME_LOCATOR = By.cssSelector(".cart_item_label .inventory_item_name");
+    private static final By ITEM_DESCRIPTION_LOCATOR = By.cssSelector(".cart_item_label .inventory_item_desc");
+    private static final By ITEM_PRICE_LOCATOR = By.cssSelector(".cart_item_label .inventory_item_price");
+    private static final By ITEM_QUANTITY_LOCATOR = By.cssSelector(".cart_quantity");
+
+    // Everything getOrderSummary() reads, fetched together in one script call
+    private static final Map<String, String> ORDER_SUMMARY_SELECTORS = Map.of(
+            "cartItems", ".cart_item",
+            "names", ".cart_item .inventory_item_name",
+            "descriptions", ".cart_item .inventory_item_desc",
+            "quantities", ".cart_item .cart_quantity",
+            "prices", ".cart_item .inventory_item_price",
+            "subtotal", ".summary_subtotal_label",
+            "tax", ".summary_tax_label",
+            "total", ".summary_total_label"
+    );
+
     /**
      * Constructor to initialize CheckoutOverviewPage
      * 
@@ -88,27 +111,19 @@ public class CheckoutOverviewPage extends BasePage {
     }
 
     public List<String> getAllItemNames() {
-        return itemNames.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemNames, ITEM_NAME_LOCATOR);
     }
 
     public List<String> getAllItemDescriptions() {
-        return itemDescriptions.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemDescriptions, ITEM_DESCRIPTION_LOCATOR);
     }
 
     public List<String> getAllItemPrices() {
-        return itemPrices.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemPrices, ITEM_PRICE_LOCATOR);
     }
 
     public List<String> getAllItemQuantities() {
-        return itemQuantities.stream()
-                .map(this::getElementText)
-                .toList();
+        return getAllElementTexts(itemQuantities, ITEM_QUANTITY_LOCATOR);
     }
 
     public String getItemNameByIndex(int index) {
@@ -168,11 +183,57 @@ public class CheckoutOverviewPage extends BasePage {
      * Extract price value from text (e.g., "Total: $25.99" -> 25.99)
      * 
      * @param priceText Text containing price
-     * @return Double value of price
+     * @return Double value of price, 0.0 if the text has no price
      */
-    private double extractPrice(String priceText) {
-        String priceOnly = priceText.replaceAll("[^0-9.]", "");
-        return priceOnly.isEmpty() ? 0.0 : Double.parseDouble(priceOnly);
+    public double extractPrice(String priceText) {
+        try {
+            return PriceUtil.toCents(priceText) / 100.0;
+        } catch (IllegalArgumentException e) {
+            return 0.0;
+        }
+    }
+
+    /**
+     * Snapshot the whole order (items, subtotal, tax and total) with a single script call
+     * Amounts are parsed into exact cents, so checks on the result need no further driver calls
+     * 
+     * @return immutable order summary
+     */
+    @CommandBudget(1)
+    public OrderSummary getOrderSummary() {
+        Map<String, List<String>> texts = getElementTextGroups(ORDER_SUMMARY_SELECTORS);
+        List<String> names = texts.get("names");
+        List<String> descriptions = texts.get("descriptions");
+        List<String> quantities = texts.get("quantities");
+        List<String> prices = texts.get("prices");
+
+        int itemCount = Math.min(Math.min(names.size(), descriptions.size()),
+                Math.min(quantities.size(), prices.size()));
+        List<OrderSummary.Item> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderSummary.Item(
+                    names.get(i),
+                    descriptions.get(i),
+                    Integer.parseInt(quantities.get(i).trim()),
+                    PriceUtil.toCents(prices.get(i))));
+        }
+        if (itemCount != texts.get("cartItems").size()) {
+            throw new IllegalStateException("Incomplete cart item details: " + texts.get("cartItems").size()
+                    + " items but only " + itemCount + " with name, description, quantity and price");
+        }
+
+        return new OrderSummary(items,
+                PriceUtil.toCents(summaryLabel(texts, "subtotal")),
+                PriceUtil.toCents(summaryLabel(texts, "tax")),
+                PriceUtil.toCents(summaryLabel(texts, "total")));
+    }
+
+    private static String summaryLabel(Map<String, List<String>> texts, String label) {
+        List<String> found = texts.get(label);
+        if (found == null || found.isEmpty()) {
+            throw new IllegalStateException("Incomplete order summary: no " + label + " label");
+        }
+        return found.get(0);
     }
 
     /**
@@ -181,10 +242,7 @@ public class CheckoutOverviewPage extends BasePage {
      * @return true if subtotal is correct
      */
     public boolean isSubtotalCorrect() {
-        double calculatedSubtotal = getAllItemPrices().stream()
-                .mapToDouble(this::extractPrice)
-                .sum();
-        return Math.abs(calculatedSubtotal - getSubtotal()) < 0.01;
+        return getOrderSummary().isSubtotalCorrect();
     }
 
     /**
@@ -193,8 +251,7 @@ public class CheckoutOverviewPage extends BasePage {
      * @return true if total is correct
      */
     public boolean isTotalCorrect() {
-        double calculatedTotal = getSubtotal() + getTax();
-        return Math.abs(calculatedTotal - getTotal()) < 0.01;
+        return getOrderSummary().isTotalCorrect();
     }
 
     // ==================== BUTTONS ====================
@@ -249,11 +306,13 @@ public class CheckoutOverviewPage extends BasePage {
      * @return true if all items have name, description, price, and quantity
      */
     public boolean areAllItemsCompletelyDisplayed() {
-        return !getAllItemNames().isEmpty() &&
-               !getAllItemDescriptions().isEmpty() &&
-               !getAllItemPrices().isEmpty() &&
-               !getAllItemQuantities().isEmpty() &&
-               getAllItemNames().size() == getCartItemCount();
+        try {
+            OrderSummary summary = getOrderSummary();
+            return summary.itemCount() > 0 &&
+                   summary.items().stream().allMatch(item -> !item.name().isEmpty() && !item.description().isEmpty());
+        } catch (IllegalStateException | IllegalArgumentException e) {
+            return false;
+        }
     }
 
     /**
@@ -262,12 +321,6 @@ public class CheckoutOverviewPage extends BasePage {
      * @return Total price before tax
      */
     public double calculateItemsTotal() {
-        double total = 0;
-        for (int i = 0; i < getCartItemCount(); i++) {
-            int qty = Integer.parseInt(getItemQuantityByIndex(i));
-            double price = extractPrice(getItemPriceByIndex(i));
-            total += qty * price;
-        }
-        return total;
+        return getOrderSummary().itemsTotalCents() / 100.0;
     }
 }
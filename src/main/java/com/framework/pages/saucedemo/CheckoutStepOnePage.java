@@ -1,11 +1,14 @@
 package com.framework.pages.saucedemo;
 
 import com.framework.pages.BasePage;
+import com.framework.pages.FillMode;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import org.openqa.selenium.support.PageFactory;
 
+import java.util.List;
+
 /**
  * Represents the Checkout Step One (Your Information) page where users enter shipping details
  * 
@@ -212,6 +215,23 @@ public class CheckoutStepOnePage extends BasePage {
      * @param postalCode Postal/ZIP code
      */
     public void fillCheckoutInformation(String firstName, String lastName, String postalCode) {
+        fillCheckoutInformation(firstName, lastName, postalCode, FillMode.TYPE);
+    }
+
+    /**
+     * Fill out the checkout form with all required information
+     * 
+     * @param firstName First name
+     * @param lastName Last name
+     * @param postalCode Postal/ZIP code
+     * @param mode TYPE sends key events per field, FAST sets all fields in one script call
+     */
+    public void fillCheckoutInformation(String firstName, String lastName, String postalCode, FillMode mode) {
+        if (mode == FillMode.FAST) {
+            fillFields(List.of(firstNameField, lastNameField, postalCodeField),
+                    List.of(firstName, lastName, postalCode));
+            return;
+        }
         enterFirstName(firstName);
         enterLastName(lastName);
         enterPostalCode(postalCode);
@@ -225,7 +245,19 @@ public class CheckoutStepOnePage extends BasePage {
      * @param postalCode Postal/ZIP code
      */
     public void completeCheckoutStepOne(String firstName, String lastName, String postalCode) {
-        fillCheckoutInformation(firstName, lastName, postalCode);
+        completeCheckoutStepOne(firstName, lastName, postalCode, FillMode.TYPE);
+    }
+
+    /**
+     * Complete checkout by filling form and clicking continue
+     * 
+     * @param firstName First name
+     * @param lastName Last name
+     * @param postalCode Postal/ZIP code
+     * @param mode TYPE sends key events per field, FAST sets all fields in one script call
+     */
+    public void completeCheckoutStepOne(String firstName, String lastName, String postalCode, FillMode mode) {
+        fillCheckoutInformation(firstName, lastName, postalCode, mode);
         clickContinue();
     }
 
@@ -1,12 +1,15 @@
 package com.framework.pages.saucedemo;
 
 import com.framework.pages.BasePage;
+import com.framework.utils.CommandBudget;
+import com.framework.utils.PriceUtil;
+import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
-import org.openqa.selenium.support.ui.Select;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object for SauceDemo Inventory/Products Page
@@ -47,6 +50,23 @@ public class InventoryPage extends BasePage {
     @FindBy(className = "shopping_cart_badge")
     private WebElement cartBadge;
 
+    // Bulk read locators - same selectors as the list fields above
+    private static final By PRODUCT_NAME_LOCATOR = By.cssSelector(".inventory_item_name");
+    private static final By PRODUCT_PRICE_LOCATOR = By.cssSelector(".inventory_item_price");
+    private static final By INVENTORY_ITEM_LOCATOR = By.className("inventory_item");
+    private static final By ADD_TO_CART_LOCATOR = By.cssSelector("button[id^='add-to-cart']");
+    private static final By REMOVE_LOCATOR = By.cssSelector("button[id^='remove']");
+    private static final By CART_BADGE_LOCATOR = By.className("shopping_cart_badge");
+
+    // Columns read from each product card by getProductCatalog()
+    private static final Map<String, String> PRODUCT_COLUMNS = Map.of(
+            "name", ".inventory_item_name",
+            "description", ".inventory_item_desc",
+            "price", ".inventory_item_price",
+            "buttonId", "button.btn_inventory@id",
+            "imageSrc", "img.inventory_item_img@src"
+    );
+
     public InventoryPage(WebDriver driver) {
         super(driver);
     }
@@ -86,14 +106,30 @@ public class InventoryPage extends BasePage {
     }
 
     public List<String> getAllProductNames() {
-        return productNames.stream()
-                .map(WebElement::getText)
-                .toList();
+        return getAllElementTexts(productNames, PRODUCT_NAME_LOCATOR);
     }
 
     public List<String> getAllProductPrices() {
-        return productPrices.stream()
-                .map(WebElement::getText)
+        return getAllElementTexts(productPrices, PRODUCT_PRICE_LOCATOR);
+    }
+
+    /**
+     * Snapshot every product card (name, description, price, button state, image) in one script call
+     * Sort checks and cart selection can then run in memory against a consistent view of the DOM
+     *
+     * @return immutable list of products in display order
+     */
+    @CommandBudget(1)
+    public List<InventoryProduct> getProductCatalog() {
+        return getAllElementRows(INVENTORY_ITEM_LOCATOR, PRODUCT_COLUMNS).stream()
+                .map(row -> new InventoryProduct(
+                        row.get("name"),
+                        row.get("description"),
+                        PriceUtil.toCents(row.get("price")),
+                        row.get("buttonId") != null && row.get("buttonId").startsWith("remove")
+                                ? InventoryProduct.ButtonState.REMOVE
+                                : InventoryProduct.ButtonState.ADD_TO_CART,
+                        row.get("imageSrc")))
                 .toList();
     }
 
@@ -137,6 +173,13 @@ public class InventoryPage extends BasePage {
         }
     }
 
+    /**
+     * @param productId product part of the button id, e.g. "sauce-labs-backpack"
+     */
+    public void addItemToCart(String productId) {
+        clickElement(driver.findElement(By.id("add-to-cart-" + productId)));
+    }
+
     public void removeFirstItemFromCart() {
         if (!removeButtons.isEmpty()) {
             removeButtons.get(0).click();
@@ -162,25 +205,19 @@ public class InventoryPage extends BasePage {
 
     // Sort/Filter functionality
     public void selectSortOption(String option) {
-        Select select = new Select(sortDropdown);
-        select.selectByVisibleText(option);
+        dropdown(sortDropdown).selectByVisibleText(option);
     }
 
     public void selectSortByValue(String value) {
-        Select select = new Select(sortDropdown);
-        select.selectByValue(value);
+        dropdown(sortDropdown).selectByValue(value);
     }
 
     public String getSelectedSortOption() {
-        Select select = new Select(sortDropdown);
-        return select.getFirstSelectedOption().getText();
+        return dropdown(sortDropdown).getFirstSelectedOption().text();
     }
 
     public List<String> getAllSortOptions() {
-        Select select = new Select(sortDropdown);
-        return select.getOptions().stream()
-                .map(WebElement::getText)
-                .toList();
+        return dropdown(sortDropdown).getOptionTexts();
     }
 
     public boolean isSortDropdownEnabled() {
@@ -192,10 +229,13 @@ public class InventoryPage extends BasePage {
     }
 
     // Cart management
+    /**
+     * Add every product to the cart with one script call, then wait once for the final badge count
+     */
     public void addAllItemsToCart() {
-        for (WebElement button : addToCartButtons) {
-            button.click();
-        }
+        int before = readCartBadgeValue();
+        int added = clickAllElements(ADD_TO_CART_LOCATOR);
+        waitForCartBadgeValue(before + added);
     }
 
     public void removeItemFromCartByIndex(int index) {
@@ -204,13 +244,22 @@ public class InventoryPage extends BasePage {
         }
     }
 
+    /**
+     * Remove every product from the cart with one script call, then wait once for the final badge count
+     */
     public void removeAllItemsFromCart() {
-        // Create a copy to avoid ConcurrentModificationException
-        int count = removeButtons.size();
-        for (int i = 0; i < count; i++) {
-            if (!removeButtons.isEmpty()) {
-                removeButtons.get(0).click();
-            }
-        }
+        int before = readCartBadgeValue();
+        int removed = clickAllElements(REMOVE_LOCATOR);
+        waitForCartBadgeValue(before - removed);
+    }
+
+    // Badge read without the implicit wait: an absent badge means an empty cart
+    private int readCartBadgeValue() {
+        List<String> badge = getAllElementTexts(CART_BADGE_LOCATOR);
+        return badge.isEmpty() || badge.get(0).isEmpty() ? 0 : Integer.parseInt(badge.get(0));
+    }
+
+    private void waitForCartBadgeValue(int expected) {
+        waitForCondition(d -> readCartBadgeValue() == expected);
     }
 }
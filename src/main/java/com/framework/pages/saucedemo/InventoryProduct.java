@@ -0,0 +1,24 @@
+package com.framework.pages.saucedemo;
+
+/**
+ * Immutable snapshot of one product card on the SauceDemo inventory page
+ * Built by InventoryPage.getProductCatalog() from a single script call
+ *
+ * @param name product name
+ * @param description product description
+ * @param priceCents price in cents (e.g. $29.99 -> 2999)
+ * @param buttonState state of the card's cart button
+ * @param imageSrc src of the product image
+ */
+public record InventoryProduct(String name, String description, long priceCents,
+                               ButtonState buttonState, String imageSrc) {
+
+    public enum ButtonState {
+        ADD_TO_CART,
+        REMOVE
+    }
+
+    public boolean isInCart() {
+        return buttonState == ButtonState.REMOVE;
+    }
+}
@@ -1,10 +1,13 @@
 package com.framework.pages.saucedemo;
 
 import com.framework.pages.BasePage;
+import com.framework.pages.FillMode;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 
+import java.util.List;
+
 /**
  * Page Object for SauceDemo Login Page
  * URL: https://www.saucedemo.com
@@ -60,8 +63,16 @@ public class LoginPage extends BasePage {
     }
 
     public void login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
+        login(username, password, FillMode.TYPE);
+    }
+
+    public void login(String username, String password, FillMode mode) {
+        if (mode == FillMode.FAST) {
+            fillFields(List.of(usernameField, passwordField), List.of(username, password));
+        } else {
+            enterUsername(username);
+            enterPassword(password);
+        }
         clickLoginButton();
     }
 
@@ -0,0 +1,51 @@
+package com.framework.pages.saucedemo;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the SauceDemo Checkout Overview order: line items plus the summary amounts
+ * Built by CheckoutOverviewPage.getOrderSummary() from a single script call, all amounts in cents
+ *
+ * @param items line items in display order
+ * @param subtotalCents displayed "Item total"
+ * @param taxCents displayed "Tax"
+ * @param totalCents displayed "Total"
+ */
+public record OrderSummary(List<Item> items, long subtotalCents, long taxCents, long totalCents) {
+
+    public OrderSummary {
+        items = List.copyOf(items);
+    }
+
+    /**
+     * @param name item name
+     * @param description item description
+     * @param quantity displayed quantity
+     * @param priceCents unit price in cents
+     */
+    public record Item(String name, String description, int quantity, long priceCents) {
+
+        public long lineTotalCents() {
+            return quantity * priceCents;
+        }
+    }
+
+    public int itemCount() {
+        return items.size();
+    }
+
+    /**
+     * Sum of quantity * price over all line items
+     */
+    public long itemsTotalCents() {
+        return items.stream().mapToLong(Item::lineTotalCents).sum();
+    }
+
+    public boolean isSubtotalCorrect() {
+        return itemsTotalCents() == subtotalCents;
+    }
+
+    public boolean isTotalCorrect() {
+        return subtotalCents + taxCents == totalCents;
+    }
+}
@@ -1,5 +1,6 @@
 package com.framework.utils;
 
+import io.qameta.allure.Allure;
 import io.qameta.allure.Attachment;
 import org.openqa.selenium.OutputType;
 import org.openqa.selenium.TakesScreenshot;
@@ -18,11 +19,13 @@ public class AllureListener implements ITestListener {
     @Override
     public void onTestSuccess(ITestResult result) {
         LoggerUtil.info("Test passed: " + result.getMethod().getMethodName());
+        attachCommandUsage(result);
     }
 
     @Override
     public void onTestFailure(ITestResult result) {
         LoggerUtil.error("Test Failed: " + result.getMethod().getMethodName());
+        attachCommandUsage(result); // before the screenshot, which is a command itself
         
         // Capture screenshot on failure
         WebDriver driver = DriverManager.getDriver();
@@ -35,6 +38,7 @@ public class AllureListener implements ITestListener {
     @Override
     public void onTestSkipped(ITestResult result) {
         LoggerUtil.info("Test skipped: " + result.getMethod().getMethodName());
+        attachCommandUsage(result); // A retried attempt or a skip mid-test has sent commands too
     }
 
     @Override
@@ -47,6 +51,23 @@ public class AllureListener implements ITestListener {
         LoggerUtil.info("Finished test suite: " + context.getName());
     }
 
+    /**
+     * Attach the WebDriver commands sent by the current test (by type, plus driver vs Java time)
+     * and start a new accounting period for the next test on this thread
+     */
+    private void attachCommandUsage(ITestResult result) {
+        CommandCounter counter = DriverManager.getCommandCounter();
+        if (counter == null) {
+            return;
+        }
+        CommandCounter.Usage usage = counter.getUsage();
+        counter.reset();
+        LoggerUtil.info(String.format("%s: %d WebDriver commands, driver %d ms, Java %d ms",
+                result.getMethod().getMethodName(), usage.commands(),
+                usage.driverNanos() / 1_000_000, usage.javaNanos() / 1_000_000));
+        Allure.addAttachment("WebDriver Commands", "text/plain", usage.format());
+    }
+
     @Attachment(value = "Screenshot on Failure", type = "image/png")
     public byte[] saveScreenshot(WebDriver driver) {
         try {
@@ -0,0 +1,85 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Performs repeated mutations (e.g. add every item to the cart) in a single executeScript call
+ * instead of one WebDriver click per element.
+ */
+public class BatchActions {
+
+    /**
+     * Clicks the first element matching the locator until none match any more, re-resolving after every
+     * click so elements that re-render (Add to cart -> Remove) or disappear (cart rows) are handled.
+     * Stops after the initial match count so an element that keeps matching cannot loop forever.
+     * arguments[0] = strategy, arguments[1] = value
+     */
+    private static final String CLICK_ALL =
+            ElementReader.RESOLVE_FUNCTION +
+            "var using = arguments[0], value = arguments[1];" +
+            "var limit = resolveAll(using, value).length, clicked = 0, el;" +
+            "while (clicked < limit && (el = resolveAll(using, value)[0])) {" +
+            "  el.scrollIntoView({block: 'center'});" +
+            "  el.click();" +
+            "  clicked++;" +
+            "}" +
+            "return clicked;";
+
+    /**
+     * Sets each field through the native HTMLInputElement / HTMLTextAreaElement value setter, bypassing the
+     * instance-level setter React installs to track values, so the bubbling input event is seen as a change
+     * and onChange fires. Returns the values read back after the events, i.e. after any controlled re-render.
+     * arguments[0] = fields, arguments[1] = values
+     */
+    private static final String SET_VALUES =
+            "var fields = arguments[0], values = arguments[1];" +
+            "return fields.map(function (el, i) {" +
+            "  var proto = el instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, values[i]);" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "  return el.value;" +
+            "});";
+
+    private final WebDriver driver;
+
+    public BatchActions(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Click every element matching the locator in one script call
+     * Each click dispatches a real DOM click event, so framework handlers (React onClick) run as usual
+     * @param locator CSS or XPath locator
+     * @return number of clicks performed
+     */
+    public int clickAll(By locator) {
+        By.Remotable.Parameters params = ElementReader.toParameters(locator);
+        Object clicked = ((JavascriptExecutor) driver).executeScript(CLICK_ALL, params.using(), params.value());
+        return clicked instanceof Number number ? number.intValue() : 0;
+    }
+
+    /**
+     * Replace the value of several input/textarea fields in one script call
+     * No key events are sent, so maxlength, input masks and key handlers are not exercised
+     * @param fields input or textarea elements
+     * @param values new value per field, same order
+     * @return value of each field after the input/change events ran
+     */
+    public List<String> setValues(List<WebElement> fields, List<String> values) {
+        Object result = ((JavascriptExecutor) driver).executeScript(SET_VALUES, fields, values);
+        List<String> actual = new ArrayList<>();
+        if (result instanceof List<?> list) {
+            for (Object value : list) {
+                actual.add(value == null ? null : value.toString());
+            }
+        }
+        return actual;
+    }
+}
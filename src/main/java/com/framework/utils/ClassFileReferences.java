@@ -0,0 +1,323 @@
+package com.framework.utils;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * What one compiled class refers to, read straight from its .class file: its superclass and interfaces,
+ * and for each method the methods it calls and the classes it uses. Enough for TestImpactIndex to build
+ * a call graph without a bytecode library.
+ *
+ * Methods are identified by owner and name only (overloads are merged, which only over-approximates).
+ * Lambdas and method references are followed through the class's BootstrapMethods.
+ */
+final class ClassFileReferences {
+
+    /**
+     * A called method, owner as a binary name (com.framework.pages.BasePage, Outer$Inner)
+     */
+    record MethodRef(String owner, String name) {}
+
+    /**
+     * Calls, used classes and classes created with "new" of one method (all overloads of a name together)
+     */
+    record MethodBody(Set<MethodRef> calls, Set<String> classes, Set<String> instantiated) {}
+
+    private static final Pattern TYPE_IN_DESCRIPTOR = Pattern.compile("L([^;<]+)[;<]");
+
+    private static final int UTF8 = 1, INTEGER = 3, FLOAT = 4, LONG = 5, DOUBLE = 6, CLASS = 7, STRING = 8,
+            FIELD_REF = 9, METHOD_REF = 10, INTERFACE_METHOD_REF = 11, NAME_AND_TYPE = 12, METHOD_HANDLE = 15,
+            METHOD_TYPE = 16, DYNAMIC = 17, INVOKE_DYNAMIC = 18, MODULE = 19, PACKAGE = 20;
+
+    private final String name;
+    private final String superName;
+    private final List<String> interfaces = new ArrayList<>();
+    private final Map<String, MethodBody> methods = new HashMap<>();
+
+    // Constant pool, indexed like the class file (slot 0 unused)
+    private final int[] tags;
+    private final int[] first;
+    private final int[] second;
+    private final String[] utf8;
+    private final List<int[]> bootstrapArguments = new ArrayList<>();
+
+    private ClassFileReferences(DataInputStream in) throws IOException {
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("Not a class file");
+        }
+        in.readUnsignedShort(); // minor version
+        in.readUnsignedShort(); // major version
+        int count = in.readUnsignedShort();
+        tags = new int[count];
+        first = new int[count];
+        second = new int[count];
+        utf8 = new String[count];
+        for (int index = 1; index < count; index++) {
+            int tag = in.readUnsignedByte();
+            tags[index] = tag;
+            switch (tag) {
+                case UTF8 -> utf8[index] = in.readUTF();
+                case INTEGER, FLOAT -> in.readInt();
+                case LONG, DOUBLE -> {
+                    in.readLong();
+                    index++; // Takes two slots
+                }
+                case CLASS, STRING, METHOD_TYPE, MODULE, PACKAGE -> first[index] = in.readUnsignedShort();
+                case FIELD_REF, METHOD_REF, INTERFACE_METHOD_REF, NAME_AND_TYPE, DYNAMIC, INVOKE_DYNAMIC -> {
+                    first[index] = in.readUnsignedShort();
+                    second[index] = in.readUnsignedShort();
+                }
+                case METHOD_HANDLE -> {
+                    in.readUnsignedByte(); // reference kind
+                    first[index] = in.readUnsignedShort();
+                }
+                default -> throw new IOException("Unknown constant pool tag " + tag);
+            }
+        }
+        in.readUnsignedShort(); // access flags
+        name = className(in.readUnsignedShort());
+        int superIndex = in.readUnsignedShort();
+        superName = superIndex == 0 ? null : className(superIndex);
+        int interfaceCount = in.readUnsignedShort();
+        for (int i = 0; i < interfaceCount; i++) {
+            interfaces.add(className(in.readUnsignedShort()));
+        }
+        skipMembers(in); // fields: their types count once a method uses them
+        Map<String, List<byte[]>> code = readMethods(in);
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            String attribute = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if ("BootstrapMethods".equals(attribute)) {
+                readBootstrapMethods(in);
+            } else {
+                in.skipNBytes(length);
+            }
+        }
+        code.forEach((method, bodies) -> bodies.forEach(bytes -> scan(bytes, methods.get(method))));
+    }
+
+    static ClassFileReferences read(InputStream classFile) throws IOException {
+        return new ClassFileReferences(new DataInputStream(classFile));
+    }
+
+    String getName() {
+        return name;
+    }
+
+    String getSuperName() {
+        return superName;
+    }
+
+    List<String> getInterfaces() {
+        return interfaces;
+    }
+
+    Map<String, MethodBody> getMethods() {
+        return methods;
+    }
+
+    /**
+     * Source-level class a binary name belongs to (nested and anonymous classes map to their outer class)
+     */
+    static String topLevel(String binaryName) {
+        int nested = binaryName.indexOf('$');
+        return nested < 0 ? binaryName : binaryName.substring(0, nested);
+    }
+
+    // ==================== Class file structure ====================
+
+    private void skipMembers(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.skipNBytes(6); // access, name, descriptor
+            skipAttributes(in);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort();
+            in.skipNBytes(in.readInt());
+        }
+    }
+
+    /**
+     * Create each method's body with its parameter and return types (used even without code, e.g. abstract
+     * methods); the code itself is scanned once the BootstrapMethods attribute after it has been read
+     */
+    private Map<String, List<byte[]>> readMethods(DataInputStream in) throws IOException {
+        Map<String, List<byte[]>> code = new HashMap<>();
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort(); // access flags
+            String method = utf8[in.readUnsignedShort()];
+            MethodBody body = methods.computeIfAbsent(method,
+                    key -> new MethodBody(new HashSet<>(), new HashSet<>(), new HashSet<>()));
+            addDescriptor(utf8[in.readUnsignedShort()], body.classes());
+            List<byte[]> bodies = code.computeIfAbsent(method, key -> new ArrayList<>());
+            int attributeCount = in.readUnsignedShort();
+            for (int a = 0; a < attributeCount; a++) {
+                String attribute = utf8[in.readUnsignedShort()];
+                int length = in.readInt();
+                if ("Code".equals(attribute)) {
+                    in.skipNBytes(4); // max stack, max locals
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    bodies.add(bytes);
+                    in.skipNBytes(8L * in.readUnsignedShort()); // exception table
+                    skipAttributes(in);
+                } else {
+                    in.skipNBytes(length);
+                }
+            }
+        }
+        return code;
+    }
+
+    private void readBootstrapMethods(DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            in.readUnsignedShort(); // bootstrap method handle (LambdaMetafactory, StringConcatFactory...)
+            int[] arguments = new int[in.readUnsignedShort()];
+            for (int a = 0; a < arguments.length; a++) {
+                arguments[a] = in.readUnsignedShort();
+            }
+            bootstrapArguments.add(arguments);
+        }
+    }
+
+    // ==================== Bytecode ====================
+
+    private void scan(byte[] code, MethodBody body) {
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc] & 0xFF;
+            switch (opcode) {
+                case 0x12 -> reference(code[pc + 1] & 0xFF, body); // ldc
+                case 0xBB -> { // new
+                    int index = ((code[pc + 1] & 0xFF) << 8) | (code[pc + 2] & 0xFF);
+                    body.instantiated().add(className(index));
+                    reference(index, body);
+                }
+                // ldc_w, ldc2_w, field access, invoke*, anewarray, checkcast, instanceof, multianewarray
+                case 0x13, 0x14, 0xB2, 0xB3, 0xB4, 0xB5, 0xB6, 0xB7, 0xB8, 0xB9, 0xBA, 0xBD, 0xC0, 0xC1, 0xC5 ->
+                        reference(((code[pc + 1] & 0xFF) << 8) | (code[pc + 2] & 0xFF), body);
+                default -> {
+                }
+            }
+            pc += instructionLength(code, pc);
+        }
+    }
+
+    private static int instructionLength(byte[] code, int pc) {
+        int opcode = code[pc] & 0xFF;
+        switch (opcode) {
+            case 0xAA -> { // tableswitch
+                int base = pc + 1 + (3 - pc % 4);
+                int low = readInt(code, base + 4);
+                int high = readInt(code, base + 8);
+                return base + 12 + 4 * (high - low + 1) - pc;
+            }
+            case 0xAB -> { // lookupswitch
+                int base = pc + 1 + (3 - pc % 4);
+                return base + 8 + 8 * readInt(code, base + 4) - pc;
+            }
+            case 0xC4 -> { // wide
+                return (code[pc + 1] & 0xFF) == 0x84 ? 6 : 4;
+            }
+            default -> {
+                return LENGTHS[opcode];
+            }
+        }
+    }
+
+    private static final int[] LENGTHS = new int[256];
+
+    static {
+        Arrays.fill(LENGTHS, 1);
+        // bipush, ldc, *load, *store, ret, newarray
+        for (int opcode : new int[]{0x10, 0x12, 0x15, 0x16, 0x17, 0x18, 0x19, 0x36, 0x37, 0x38, 0x39, 0x3A, 0xA9, 0xBC}) {
+            LENGTHS[opcode] = 2;
+        }
+        for (int opcode = 0x99; opcode <= 0xA8; opcode++) {
+            LENGTHS[opcode] = 3; // if*, goto, jsr
+        }
+        // sipush, ldc_w, ldc2_w, iinc, field access, invoke* (but interface/dynamic), new, anewarray, checkcast,
+        // instanceof, ifnull, ifnonnull
+        for (int opcode : new int[]{0x11, 0x13, 0x14, 0x84, 0xB2, 0xB3, 0xB4, 0xB5, 0xB6, 0xB7, 0xB8, 0xBB, 0xBD,
+                0xC0, 0xC1, 0xC6, 0xC7}) {
+            LENGTHS[opcode] = 3;
+        }
+        LENGTHS[0xC5] = 4; // multianewarray
+        for (int opcode : new int[]{0xB9, 0xBA, 0xC8, 0xC9}) { // invokeinterface, invokedynamic, goto_w, jsr_w
+            LENGTHS[opcode] = 5;
+        }
+    }
+
+    private static int readInt(byte[] code, int at) {
+        return ((code[at] & 0xFF) << 24) | ((code[at + 1] & 0xFF) << 16) | ((code[at + 2] & 0xFF) << 8)
+                | (code[at + 3] & 0xFF);
+    }
+
+    /**
+     * Record what a constant pool entry used by an instruction refers to
+     */
+    private void reference(int index, MethodBody body) {
+        switch (tags[index]) {
+            case CLASS -> addClass(className(index), body.classes());
+            case FIELD_REF -> {
+                addClass(className(first[index]), body.classes());
+                addDescriptor(utf8[second[second[index]]], body.classes());
+            }
+            case METHOD_REF, INTERFACE_METHOD_REF -> {
+                String owner = className(first[index]);
+                addClass(owner, body.classes());
+                body.calls().add(new MethodRef(owner, utf8[first[second[index]]]));
+                addDescriptor(utf8[second[second[index]]], body.classes());
+            }
+            case METHOD_HANDLE -> reference(first[index], body);
+            case METHOD_TYPE -> addDescriptor(utf8[first[index]], body.classes());
+            case INVOKE_DYNAMIC, DYNAMIC -> {
+                addDescriptor(utf8[second[second[index]]], body.classes());
+                if (first[index] < bootstrapArguments.size()) {
+                    for (int argument : bootstrapArguments.get(first[index])) {
+                        reference(argument, body); // The lambda body or referenced method
+                    }
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private String className(int classIndex) {
+        return utf8[first[classIndex]].replace('/', '.');
+    }
+
+    private static void addClass(String name, Set<String> classes) {
+        if (name.startsWith("[")) {
+            addDescriptor(name.replace('.', '/'), classes);
+        } else {
+            classes.add(name);
+        }
+    }
+
+    private static void addDescriptor(String descriptor, Set<String> classes) {
+        Matcher matcher = TYPE_IN_DESCRIPTOR.matcher(descriptor);
+        while (matcher.find()) {
+            classes.add(matcher.group(1).replace('/', '.'));
+        }
+    }
+}
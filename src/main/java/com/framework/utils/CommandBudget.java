@@ -0,0 +1,22 @@
+package com.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of WebDriver commands a page-object method or a test may send.
+ *
+ * On a page-object method the budget applies to every call (enforced by CommandBudgetAspect, woven by
+ * the AspectJ agent configured in surefire). On a test method or test class it applies to the test body,
+ * excluding @BeforeMethod setup (enforced by CommandBudgetListener). Commands are counted by CommandCounter,
+ * so reads served by the read cache do not count.
+ *
+ * commandBudget.mode=fail fails the test on overrun, warn (default) only logs it.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface CommandBudget {
+    int value();
+}
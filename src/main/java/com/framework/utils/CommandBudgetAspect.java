@@ -0,0 +1,29 @@
+package com.framework.utils;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Enforces @CommandBudget on page-object methods.
+ * Registered in META-INF/aop.xml and woven at load time by the aspectjweaver agent, like Allure's @Step aspect.
+ */
+@Aspect
+public class CommandBudgetAspect {
+
+    @Around("execution(* com.framework.pages..*(..)) && @annotation(budget)")
+    public Object enforce(ProceedingJoinPoint joinPoint, CommandBudget budget) throws Throwable {
+        CommandCounter counter = DriverManager.getCommandCounter();
+        if (counter == null) {
+            return joinPoint.proceed();
+        }
+        long before = counter.getCount();
+        Object result = joinPoint.proceed();
+        long used = counter.getCount() - before;
+        if (used > budget.value()) {
+            CommandBudgetListener.reportOverrun(String.format("%s sent %d WebDriver commands (budget %d)",
+                    joinPoint.getSignature().toShortString(), used, budget.value()));
+        }
+        return result;
+    }
+}
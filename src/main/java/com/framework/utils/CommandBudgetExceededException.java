@@ -0,0 +1,13 @@
+package com.framework.utils;
+
+/**
+ * Thrown (in commandBudget.mode=fail) when a page-object method or test sends more WebDriver commands than its @CommandBudget
+ */
+public class CommandBudgetExceededException extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public CommandBudgetExceededException(String message) {
+        super(message);
+    }
+}
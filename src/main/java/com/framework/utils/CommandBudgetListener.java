@@ -0,0 +1,86 @@
+package com.framework.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Enforces @CommandBudget on test methods and test classes: counts the WebDriver commands sent by the
+ * test body and fails or warns (commandBudget.mode) when the count exceeds the budget.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs, so unit tests and ad-hoc runs are not budgeted.
+ */
+public class CommandBudgetListener implements IInvokedMethodListener {
+
+    private static final ThreadLocal<Long> countAtStart = new ThreadLocal<>();
+    private static final ThreadLocal<Map<String, Long>> pageMethodsAtStart = new ThreadLocal<>();
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        CommandCounter counter = DriverManager.getCommandCounter();
+        if (!method.isTestMethod() || budgetOf(testResult) == null || counter == null) {
+            return;
+        }
+        countAtStart.set(counter.getCount());
+        pageMethodsAtStart.set(counter.getCountsByPageMethod());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || countAtStart.get() == null) {
+            return;
+        }
+        CommandCounter counter = DriverManager.getCommandCounter();
+        long used = counter.getCount() - countAtStart.get();
+        CommandBudget budget = budgetOf(testResult);
+        Map<String, Long> before = pageMethodsAtStart.get();
+        countAtStart.remove();
+        pageMethodsAtStart.remove();
+
+        if (used <= budget.value()) {
+            LoggerUtil.debug(testResult.getName() + " used " + used + "/" + budget.value() + " WebDriver commands");
+            return;
+        }
+        String message = String.format("%s sent %d WebDriver commands (budget %d). Top callers: %s",
+                testResult.getName(), used, budget.value(), topCallers(counter.getCountsByPageMethod(), before));
+        try {
+            reportOverrun(message);
+        } catch (CommandBudgetExceededException e) {
+            if (testResult.getStatus() == ITestResult.SUCCESS) {
+                testResult.setStatus(ITestResult.FAILURE);
+                testResult.setThrowable(e);
+            }
+        }
+    }
+
+    /**
+     * Log the overrun, and throw CommandBudgetExceededException when commandBudget.mode=fail
+     */
+    static void reportOverrun(String message) {
+        if ("fail".equalsIgnoreCase(ConfigReader.getProperty("commandBudget.mode", "warn"))) {
+            LoggerUtil.error("Command budget exceeded: " + message);
+            throw new CommandBudgetExceededException(message);
+        }
+        LoggerUtil.warn("Command budget exceeded: " + message);
+    }
+
+    private static CommandBudget budgetOf(ITestResult testResult) {
+        Method testMethod = testResult.getMethod().getConstructorOrMethod().getMethod();
+        CommandBudget budget = testMethod.getAnnotation(CommandBudget.class);
+        return budget != null ? budget : testResult.getTestClass().getRealClass().getAnnotation(CommandBudget.class);
+    }
+
+    private static String topCallers(Map<String, Long> after, Map<String, Long> before) {
+        return after.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue() - before.getOrDefault(entry.getKey(), 0L)))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(5)
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,138 @@
+package com.framework.utils;
+
+import com.framework.pages.BasePage;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the WebDriver commands that actually reach the browser driver.
+ * Installed innermost by DriverManager, so reads served by the read cache and switches skipped by the
+ * frame tracker are not counted. Each command is also attributed to the page-object method that issued it,
+ * counted per command type, and timed, so a test's wall time splits into driver time and Java time.
+ *
+ * A counter belongs to one driver and therefore one thread; counters are lock-free (LongAdder) and
+ * cleared with reset() once AllureListener has reported them for a test.
+ */
+public class CommandCounter extends WebDriverDecorator<WebDriver> {
+
+    // Calls answered by the client itself, without a round-trip (manage(), navigate(), proxies' Object methods...)
+    private static final Set<String> LOCAL_CALLS = Set.of(
+            "toString", "hashCode", "equals", "getWrappedDriver", "getWrappedElement", "getId",
+            "manage", "navigate", "switchTo", "timeouts", "window", "logs",
+            "getCapabilities", "getSessionId", "getCommandExecutor", "getFileDetector", "setFileDetector"
+    );
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private final AtomicLong commands = new AtomicLong();
+    private final Map<String, AtomicLong> byPageMethod = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> byCommand = new ConcurrentHashMap<>();
+    private final LongAdder driverNanos = new LongAdder();
+    private volatile long startedAt = System.nanoTime();
+
+    /**
+     * Commands sent and time split since the counter was created or last reset
+     * @param byCommand command name (findElement, getText, click, executeScript...) to count
+     */
+    public record Usage(long commands, Map<String, Long> byCommand, long driverNanos, long elapsedNanos) {
+
+        public long javaNanos() {
+            return Math.max(0, elapsedNanos - driverNanos);
+        }
+
+        /**
+         * Multi-line summary, one line per command type, most frequent first
+         */
+        public String format() {
+            StringBuilder report = new StringBuilder(String.format(
+                    "WebDriver commands: %d%nDriver time: %d ms%nJava time: %d ms%n%n",
+                    commands, driverNanos / 1_000_000, javaNanos() / 1_000_000));
+            byCommand.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(entry -> report.append(String.format("%-24s %d%n", entry.getKey(), entry.getValue())));
+            return report.toString();
+        }
+    }
+
+    @Override
+    public void beforeCall(Decorated<?> target, Method method, Object[] args) {
+        if (isRemote(target.getOriginal(), method.getName())) {
+            commands.incrementAndGet();
+            byCommand.computeIfAbsent(method.getName(), key -> new LongAdder()).increment();
+            byPageMethod.computeIfAbsent(callingPageMethod(), key -> new AtomicLong()).incrementAndGet();
+        }
+        super.beforeCall(target, method, args);
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        if (!isRemote(target.getOriginal(), method.getName())) {
+            return super.call(target, method, args);
+        }
+        long start = System.nanoTime();
+        try {
+            return super.call(target, method, args);
+        } finally {
+            driverNanos.add(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return commands sent since the driver was created
+     */
+    public long getCount() {
+        return commands.get();
+    }
+
+    /**
+     * @return copy of the per page-method counts ("CartPage.getCartItemNames" -> n, "(test code)" for the rest)
+     */
+    public Map<String, Long> getCountsByPageMethod() {
+        Map<String, Long> counts = new HashMap<>();
+        byPageMethod.forEach((key, value) -> counts.put(key, value.get()));
+        return counts;
+    }
+
+    /**
+     * @return command counts by type and driver vs Java time since creation or the last reset()
+     */
+    public Usage getUsage() {
+        Map<String, Long> counts = new TreeMap<>();
+        byCommand.forEach((key, value) -> counts.put(key, value.sum()));
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new Usage(total, counts, driverNanos.sum(), System.nanoTime() - startedAt);
+    }
+
+    /**
+     * Start a new accounting period for getUsage(); getCount() keeps growing for budget deltas
+     */
+    public void reset() {
+        byCommand.clear();
+        driverNanos.reset();
+        startedAt = System.nanoTime();
+    }
+
+    static boolean isRemote(Object original, String name) {
+        // switchTo().window(handle) is a command, manage().window() is not
+        return original instanceof WebDriver.TargetLocator || !LOCAL_CALLS.contains(name);
+    }
+
+    // Outermost page-object frame, so helper methods inherited from BasePage are charged to the page method calling them
+    private static String callingPageMethod() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> BasePage.class.isAssignableFrom(frame.getDeclaringClass()))
+                .reduce((inner, outer) -> outer)
+                .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                .orElse("(test code)"));
+    }
+}
@@ -3,6 +3,8 @@ package com.framework.utils;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
 
 public class ConfigReader {
     private static Properties properties;
@@ -19,8 +21,30 @@ public class ConfigReader {
         }
     }
 
+    /**
+     * Get a property; a JVM system property with the same key (-Dkey=value) overrides config.properties
+     * @param key - the property key
+     * @return the configured value, or null when the key is missing
+     */
     public static String getProperty(String key) {
-        return properties.getProperty(key);
+        return System.getProperty(key, properties.getProperty(key));
+    }
+
+    /**
+     * Get a property, falling back to a default when it is not configured
+     * @param key - the property key
+     * @param defaultValue - value returned when the key is missing
+     * @return the configured value or the default
+     */
+    public static String getProperty(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    /**
+     * @return the keys defined in config.properties, sorted
+     */
+    public static Set<String> getPropertyNames() {
+        return new TreeSet<>(properties.stringPropertyNames());
     }
 
     /**
@@ -1,36 +1,99 @@
 package com.framework.utils;
 
 import io.github.bonigarcia.wdm.WebDriverManager;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TakesScreenshot;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
+import org.openqa.selenium.interactions.Interactive;
+import org.openqa.selenium.remote.service.DriverService;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class DriverManager {
     private static final ThreadLocal<WebDriver> driver = new ThreadLocal<>();
+    private static final ThreadLocal<ReadCacheDecorator> readCache = new ThreadLocal<>();
+    private static final ThreadLocal<FrameContextTracker> frameTracker = new ThreadLocal<>();
+    private static final ThreadLocal<CommandCounter> commandCounter = new ThreadLocal<>();
+    private static final Set<String> preparedBrowsers = ConcurrentHashMap.newKeySet();
+    // Every open session by owning thread, so warm browsers of finished worker threads can still be quit
+    private static final Map<Thread, WebDriver> sessions = new ConcurrentHashMap<>();
+    // The browser driver process of each session, so a hung session can be cut off from another thread
+    private static final Map<Thread, ProcessHandle> driverProcesses = new ConcurrentHashMap<>();
+    private static final AtomicInteger sessionsStarted = new AtomicInteger();
+
+    /**
+     * Driver that forwards every call to the calling thread's driver (see getDriver()).
+     * Test classes and page objects shared between threads in parallel="methods" runs hold this one
+     * instead of a specific session, so each test thread always talks to its own browser.
+     */
+    private static final WebDriver threadDriver = (WebDriver) Proxy.newProxyInstance(
+            DriverManager.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class, TakesScreenshot.class,
+                    Interactive.class, HasCapabilities.class, WrapsDriver.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                case "toString" -> "ThreadDriver -> " + driver.get();
+                case "getWrappedDriver" -> getDriver();
+                default -> {
+                    try {
+                        yield method.invoke(getDriver(), args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                }
+            });
 
     public static WebDriver getDriver() {
+        if (driver.get() != null && sessions.get(Thread.currentThread()) != driver.get()) {
+            // Quit by quitAllDrivers() while this thread kept a reference
+            clearThreadState();
+        }
         if (driver.get() == null) {
             initializeDriver();
         }
         return driver.get();
     }
 
+    /**
+     * @return a driver bound to no session in particular: each call goes to the calling thread's driver
+     */
+    public static WebDriver getThreadDriver() {
+        return threadDriver;
+    }
+
     public static void initializeDriver() {
         String browser = ConfigReader.getProperty("browser").toLowerCase();
         boolean isHeadless = Boolean.parseBoolean(ConfigReader.getProperty("headless"));
-        
+        WebDriver webDriver;
+        DriverService service;
+
         switch (browser) {
             case "chrome":
                 ChromeOptions chromeOptions = new ChromeOptions();
                 if (isHeadless) {
                     chromeOptions.addArguments("--headless");
                 }
-                WebDriverManager.chromedriver().setup();
-                driver.set(new ChromeDriver(chromeOptions));
+                prepareBinary(browser);
+                ChromeDriverService chromeService = ChromeDriverService.createDefaultService();
+                service = chromeService;
+                webDriver = new ChromeDriver(chromeService, chromeOptions);
                 break;
                 
             case "firefox":
@@ -38,14 +101,19 @@ public class DriverManager {
                 if (isHeadless) {
                     firefoxOptions.addArguments("--headless");
                 }
-                WebDriverManager.firefoxdriver().setup();
-                driver.set(new FirefoxDriver(firefoxOptions));
+                prepareBinary(browser);
+                GeckoDriverService geckoService = GeckoDriverService.createDefaultService();
+                service = geckoService;
+                webDriver = new FirefoxDriver(geckoService, firefoxOptions);
                 break;
                 
             default:
                 throw new RuntimeException("Unsupported browser: " + browser);
         }
 
+        register(Thread.currentThread(), decorate(webDriver), driverProcess(service.getUrl().getPort()));
+        sessionsStarted.incrementAndGet();
+
         // Configure timeouts
         driver.get().manage().timeouts().implicitlyWait(
             Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("implicitWait")))
@@ -54,12 +122,205 @@ public class DriverManager {
             Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("pageLoadTimeout")))
         );
         driver.get().manage().window().maximize();
+        OriginPreflight.warmUp(driver.get());
+    }
+
+    /**
+     * Resolve the driver binary once per browser; parallel threads would otherwise race on WebDriverManager's cache
+     */
+    private static synchronized void prepareBinary(String browser) {
+        if (preparedBrowsers.add(browser)) {
+            WebDriverManager.getInstance(browser).setup();
+        }
+    }
+
+    /**
+     * Wrap the raw driver with the configured decorators
+     */
+    private static WebDriver decorate(WebDriver webDriver) {
+        // Innermost, so only commands that really reach the browser driver are counted
+        if (Boolean.parseBoolean(ConfigReader.getProperty("commandCounter.enabled", "false"))) {
+            CommandCounter counter = new CommandCounter();
+            commandCounter.set(counter);
+            webDriver = counter.decorate(webDriver);
+        }
+        if (Boolean.parseBoolean(ConfigReader.getProperty("readCache.enabled", "false"))) {
+            ReadCacheDecorator cache = new ReadCacheDecorator(
+                Long.parseLong(ConfigReader.getProperty("readCache.ttlMillis", "250"))
+            );
+            readCache.set(cache);
+            webDriver = cache.decorate(webDriver);
+        }
+        // Outermost, so skipped switches never reach (and flush) the read cache
+        if (Boolean.parseBoolean(ConfigReader.getProperty("frameTracker.enabled", "false"))) {
+            FrameContextTracker tracker = new FrameContextTracker();
+            frameTracker.set(tracker);
+            webDriver = tracker.decorate(webDriver);
+        }
+        return webDriver;
+    }
+
+    /**
+     * Read cache of the current thread's driver, null when the cache is disabled
+     */
+    public static ReadCacheDecorator getReadCache() {
+        return readCache.get();
+    }
+
+    /**
+     * Command counter of the current thread's driver, null when counting is disabled
+     */
+    public static CommandCounter getCommandCounter() {
+        return commandCounter.get();
+    }
+
+    /**
+     * Frame context tracker of the current thread's driver, null when tracking is disabled
+     */
+    public static FrameContextTracker getFrameTracker() {
+        return frameTracker.get();
+    }
+
+    /**
+     * @return number of browser sessions started by this JVM
+     */
+    public static int getSessionsStarted() {
+        return sessionsStarted.get();
+    }
+
+    /**
+     * End the current test's use of this thread's browser. With parallel.mode=queue the browser stays open
+     * for the next test the worker pulls: extra windows are closed, cookies and web storage of the current
+     * site are cleared and the window is left on about:blank. Otherwise (or if the reset fails) it is quit.
+     */
+    public static void releaseDriver() {
+        if (driver.get() == null || !ParallelExecutionConfigurer.isQueueMode()) {
+            quitDriver();
+            return;
+        }
+        resetDriver();
+    }
+
+    /**
+     * Keep this thread's browser open but clear it for a fresh start: extra windows are closed, cookies
+     * and web storage of the current site are cleared and the window is left on about:blank. Used between
+     * the attempts of a retried test, which then skip the browser start. Quits the browser if the reset fails.
+     */
+    public static void resetDriver() {
+        if (driver.get() == null) {
+            return;
+        }
+        if (sessions.get(Thread.currentThread()) != driver.get()) {
+            clearThreadState(); // Aborted or quit from another thread: nothing left to reset
+            return;
+        }
+        try {
+            resetSession(driver.get());
+        } catch (RuntimeException e) {
+            LoggerUtil.warn("Could not reset browser for reuse, quitting it: " + e.getMessage());
+            quitDriver();
+        }
+    }
+
+    private static void resetSession(WebDriver session) {
+        String first = null;
+        for (String handle : session.getWindowHandles()) {
+            if (first == null) {
+                first = handle;
+            } else {
+                session.switchTo().window(handle);
+                session.close();
+            }
+        }
+        session.switchTo().window(first);
+        if (session.getCurrentUrl().startsWith("http")) {
+            ((JavascriptExecutor) session).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+        }
+        session.manage().deleteAllCookies();
+        // The page was rendered with the cookies just deleted, so PageNavigator must not reuse it
+        session.get("about:blank");
     }
 
     public static void quitDriver() {
-        if (driver.get() != null) {
+        // A session aborted or quit from another thread is already gone
+        if (driver.get() != null && sessions.remove(Thread.currentThread(), driver.get())) {
+            driverProcesses.remove(Thread.currentThread());
             driver.get().quit();
-            driver.remove();
         }
+        clearThreadState();
+    }
+
+    /**
+     * Make session, whose browser driver runs as driverProcess (null if unknown), owner's current session
+     */
+    static void register(Thread owner, WebDriver session, ProcessHandle driverProcess) {
+        if (owner == Thread.currentThread()) {
+            driver.set(session);
+        }
+        sessions.put(owner, session);
+        if (driverProcess != null) {
+            driverProcesses.put(owner, driverProcess);
+        }
+    }
+
+    /**
+     * @return the browser driver process this JVM started to listen on port, null when it cannot be found
+     */
+    static ProcessHandle driverProcess(int port) {
+        String portArgument = "--port=" + port;
+        return ProcessHandle.current().children()
+                .filter(process -> process.info().arguments()
+                        .map(arguments -> Arrays.asList(arguments).contains(portArgument))
+                        .orElse(false))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * End owner's session from any thread by killing its browser driver process and the browser it started.
+     * The HTTP connection of the command owner is blocked in is closed, so it fails at once instead of
+     * waiting for a page-load or script timeout, and no browser is left running: a session cannot be quit
+     * through its hung driver. owner's next getDriver() starts a new browser.
+     */
+    public static void abortSession(Thread owner) {
+        sessions.remove(owner);
+        ProcessHandle driverProcess = driverProcesses.remove(owner);
+        if (driverProcess == null) {
+            LoggerUtil.warn("No browser driver process known for " + owner.getName() + ", its browser is left open");
+            return;
+        }
+        // Listed before the driver dies: the browser is then re-parented and no longer its descendant
+        List<ProcessHandle> browser = driverProcess.descendants().toList();
+        driverProcess.destroy();
+        browser.forEach(ProcessHandle::destroy);
+    }
+
+    /**
+     * Quit every open session, including warm browsers kept by worker threads that have finished
+     */
+    public static void quitAllDrivers() {
+        sessions.forEach((thread, session) -> {
+            try {
+                session.quit();
+            } catch (RuntimeException e) {
+                LoggerUtil.warn("Could not quit browser of " + thread.getName() + ": " + e.getMessage());
+            }
+        });
+        sessions.clear();
+        driverProcesses.clear();
+        clearThreadState();
+    }
+
+    private static void clearThreadState() {
+        driver.remove();
+        if (readCache.get() != null) {
+            LoggerUtil.info(readCache.get().getStatistics());
+            readCache.remove();
+        }
+        if (frameTracker.get() != null) {
+            LoggerUtil.info(frameTracker.get().getStatistics());
+            frameTracker.remove();
+        }
+        commandCounter.remove();
     }
-}
\ No newline at end of file
+}
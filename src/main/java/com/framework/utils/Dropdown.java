@@ -0,0 +1,164 @@
+package com.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Script-backed replacement for org.openqa.selenium.support.ui.Select.
+ * Select costs getTagName + getDomAttribute("multiple") on construction and one round-trip per option read;
+ * here the tag check, every option's text / value / selection state and each selection are one script call.
+ *
+ * The option snapshot is reused until the read cache decorator sees a mutating command (click, sendKeys,
+ * script...), so repeated reads between actions are free. Without the read cache every read hits the page.
+ */
+public class Dropdown {
+
+    /**
+     * Returns {tag} for a non-select element, otherwise {tag, multiple, options: [...]}
+     * Option text is normalized like Select.selectByVisibleText() compares it.
+     */
+    private static final String SNAPSHOT_FUNCTION =
+            "function optionText(o) { return o.text.replace(/\\s+/g, ' ').trim(); }" +
+            "function snapshot(el) {" +
+            "  if (el.tagName.toLowerCase() !== 'select') { return {tag: el.tagName}; }" +
+            "  return {tag: 'select', multiple: el.multiple, options: Array.prototype.map.call(el.options, function (o) {" +
+            "    return {index: o.index, text: optionText(o), value: o.value, selected: o.selected, disabled: o.disabled};" +
+            "  })};" +
+            "}";
+
+    private static final String READ_OPTIONS =
+            SNAPSHOT_FUNCTION + "return snapshot(arguments[0]);";
+
+    /**
+     * arguments[1] = "text" / "value" / "index", arguments[2] = key
+     * Selects the option and fires input + change (bubbling, so React's delegated onChange sees it)
+     */
+    private static final String SELECT_OPTION =
+            SNAPSHOT_FUNCTION +
+            "var el = arguments[0], by = arguments[1], key = arguments[2], state = snapshot(el);" +
+            "if (state.tag !== 'select') { return state; }" +
+            "var option = Array.prototype.find.call(el.options, function (o) {" +
+            "  return by === 'index' ? o.index === key : by === 'value' ? o.value === key : optionText(o) === key;" +
+            "});" +
+            "if (!option) { state.missing = true; return state; }" +
+            "if (option.disabled) { state.disabled = true; return state; }" +
+            "if (!option.selected) {" +
+            "  option.selected = true;" +
+            "  el.dispatchEvent(new Event('input', {bubbles: true}));" +
+            "  el.dispatchEvent(new Event('change', {bubbles: true}));" +
+            "}" +
+            "return snapshot(el);";
+
+    /**
+     * One option of the dropdown as read by the last snapshot
+     */
+    public record Option(int index, String text, String value, boolean selected, boolean disabled) {}
+
+    private final WebDriver driver;
+    private final WebElement selectElement;
+    private List<Option> options;
+    private boolean multiple;
+    private long snapshotMutationCount;
+
+    public Dropdown(WebDriver driver, WebElement selectElement) {
+        this.driver = driver;
+        this.selectElement = selectElement;
+    }
+
+    /**
+     * @return every option in document order
+     */
+    public List<Option> getOptions() {
+        ReadCacheDecorator cache = DriverManager.getReadCache();
+        if (options == null || cache == null || cache.getMutationCount() != snapshotMutationCount) {
+            store(execute(READ_OPTIONS));
+        }
+        return options;
+    }
+
+    public List<String> getOptionTexts() {
+        return getOptions().stream().map(Option::text).toList();
+    }
+
+    public List<String> getOptionValues() {
+        return getOptions().stream().map(Option::value).toList();
+    }
+
+    /**
+     * @throws NoSuchElementException if no option is selected
+     */
+    public Option getFirstSelectedOption() {
+        return getOptions().stream()
+                .filter(Option::selected)
+                .findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No options are selected"));
+    }
+
+    public boolean isMultiple() {
+        getOptions();
+        return multiple;
+    }
+
+    public void selectByVisibleText(String text) {
+        select("text", text);
+    }
+
+    public void selectByValue(String value) {
+        select("value", value);
+    }
+
+    public void selectByIndex(int index) {
+        select("index", index);
+    }
+
+    private void select(String by, Object key) {
+        Map<?, ?> state = execute(SELECT_OPTION, by, key);
+        if (Boolean.TRUE.equals(state.get("missing"))) {
+            throw new NoSuchElementException("Cannot locate option with " + by + ": " + key);
+        }
+        if (Boolean.TRUE.equals(state.get("disabled"))) {
+            throw new UnsupportedOperationException("You may not select a disabled option");
+        }
+        store(state);
+    }
+
+    private Map<?, ?> execute(String script, Object... args) {
+        Object[] scriptArgs = new Object[args.length + 1];
+        scriptArgs[0] = selectElement;
+        System.arraycopy(args, 0, scriptArgs, 1, args.length);
+        Object result = ((JavascriptExecutor) driver).executeScript(script, scriptArgs);
+        if (!(result instanceof Map<?, ?> state)) {
+            throw new IllegalStateException("Unexpected dropdown script result: " + result);
+        }
+        if (!"select".equals(state.get("tag"))) {
+            throw new UnexpectedTagNameException("select", String.valueOf(state.get("tag")));
+        }
+        return state;
+    }
+
+    private void store(Map<?, ?> state) {
+        List<Option> snapshot = new ArrayList<>();
+        if (state.get("options") instanceof List<?> list) {
+            for (Object item : list) {
+                Map<?, ?> option = (Map<?, ?>) item;
+                snapshot.add(new Option(
+                        ((Number) option.get("index")).intValue(),
+                        String.valueOf(option.get("text")),
+                        String.valueOf(option.get("value")),
+                        Boolean.TRUE.equals(option.get("selected")),
+                        Boolean.TRUE.equals(option.get("disabled"))));
+            }
+        }
+        options = List.copyOf(snapshot);
+        multiple = Boolean.TRUE.equals(state.get("multiple"));
+        ReadCacheDecorator cache = DriverManager.getReadCache();
+        snapshotMutationCount = cache == null ? -1 : cache.getMutationCount();
+    }
+}
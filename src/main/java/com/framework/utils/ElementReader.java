@@ -0,0 +1,253 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads text or attributes of every element matching a locator in a single executeScript call.
+ * Replaces the one-getText-per-element pattern used by list getters in page objects.
+ */
+public class ElementReader {
+
+    /**
+     * Resolves the elements for a locator inside the page.
+     * using = strategy ("css selector" / "xpath"), value = selector or expression
+     */
+    static final String RESOLVE_FUNCTION =
+            "function resolveAll(using, value) {" +
+            "  if (using === 'xpath') {" +
+            "    var snap = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null), els = [];" +
+            "    for (var i = 0; i < snap.snapshotLength; i++) { els.push(snap.snapshotItem(i)); }" +
+            "    return els;" +
+            "  }" +
+            "  return Array.prototype.slice.call(document.querySelectorAll(value));" +
+            "}";
+
+    // arguments[0] = strategy, arguments[1] = value
+    private static final String RESOLVE_ELEMENTS =
+            RESOLVE_FUNCTION + "var els = resolveAll(arguments[0], arguments[1]);";
+
+    /**
+     * Mirrors WebDriver getText(): hidden elements yield "", non-breaking spaces become spaces,
+     * runs of whitespace collapse, every line is trimmed and blank leading/trailing lines are dropped.
+     * As for isDisplayed(), an element is hidden when it has no layout box, is visibility:hidden, or it or
+     * an ancestor is opacity:0.
+     */
+    private static final String VISIBLE_TEXT_FUNCTION =
+            "function isShown(el) {" +
+            "  if (!el.isConnected || el.getClientRects().length === 0) { return false; }" +
+            "  var style = window.getComputedStyle(el);" +
+            "  if (style.visibility === 'hidden' || style.visibility === 'collapse') { return false; }" +
+            "  for (var node = el; node && node.nodeType === 1; node = node.parentElement) {" +
+            "    if (parseFloat(window.getComputedStyle(node).opacity) === 0) { return false; }" +
+            "  }" +
+            "  return true;" +
+            "}" +
+            "function visibleText(el) {" +
+            "  if (!isShown(el)) { return ''; }" +
+            "  var text = (el.innerText || '').replace(/\\u00a0/g, ' ');" +
+            "  return text.split(/\\r\\n|\\r|\\n/)" +
+            "    .map(function (line) { return line.replace(/[ \\t\\f\\v\\u200b]+/g, ' ').trim(); })" +
+            "    .join('\\n').replace(/^\\n+|\\n+$/g, '');" +
+            "}";
+
+    private static final String READ_TEXTS =
+            VISIBLE_TEXT_FUNCTION + RESOLVE_ELEMENTS +
+            "return els.map(visibleText);";
+
+    /**
+     * Mirrors WebDriver getAttribute(): the DOM property wins when it is a primitive,
+     * otherwise the HTML attribute is returned. Booleans are reported as "true" or null.
+     */
+    private static final String ATTRIBUTE_FUNCTION =
+            "function attributeOf(el, name) {" +
+            "  var prop = el[name];" +
+            "  if (typeof prop === 'boolean') { return prop ? 'true' : null; }" +
+            "  if (typeof prop === 'string' || typeof prop === 'number') { return String(prop); }" +
+            "  return el.getAttribute(name);" +
+            "}";
+
+    // arguments[2] = attribute name
+    private static final String READ_ATTRIBUTES =
+            ATTRIBUTE_FUNCTION + RESOLVE_ELEMENTS +
+            "var name = arguments[2];" +
+            "return els.map(function (el) { return attributeOf(el, name); });";
+
+    /**
+     * arguments[2] = { column: "childSelector" | "childSelector@attribute" | "@attribute" }
+     * An empty child selector reads from the row element itself.
+     */
+    private static final String READ_ROWS =
+            VISIBLE_TEXT_FUNCTION + ATTRIBUTE_FUNCTION + RESOLVE_ELEMENTS +
+            "var columns = arguments[2];" +
+            "return els.map(function (row) {" +
+            "  var record = {};" +
+            "  Object.keys(columns).forEach(function (key) {" +
+            "    var spec = columns[key], at = spec.lastIndexOf('@');" +
+            "    var selector = at < 0 ? spec : spec.substring(0, at);" +
+            "    var el = selector ? row.querySelector(selector) : row;" +
+            "    record[key] = !el ? null : (at < 0 ? visibleText(el) : attributeOf(el, spec.substring(at + 1)));" +
+            "  });" +
+            "  return record;" +
+            "});";
+
+    // arguments[0] = { key: "css selector" }
+    private static final String READ_TEXT_GROUPS =
+            VISIBLE_TEXT_FUNCTION +
+            "var selectors = arguments[0], groups = {};" +
+            "Object.keys(selectors).forEach(function (key) {" +
+            "  groups[key] = Array.prototype.map.call(document.querySelectorAll(selectors[key]), visibleText);" +
+            "});" +
+            "return groups;";
+
+    /**
+     * Resolves the first element for every locator and reports its state.
+     * arguments[0] = [[strategy, value], ...]
+     */
+    private static final String READ_STATES =
+            VISIBLE_TEXT_FUNCTION + RESOLVE_FUNCTION +
+            "return arguments[0].map(function (locator) {" +
+            "  var el = resolveAll(locator[0], locator[1])[0];" +
+            "  if (!el) { return {found: false, displayed: false, enabled: false, text: ''}; }" +
+            "  var shown = isShown(el);" +
+            "  return {found: true, displayed: shown, enabled: !el.disabled, text: shown ? visibleText(el) : ''};" +
+            "});";
+
+    /**
+     * State of the first element matching a locator, as read by getStates()
+     */
+    public record ElementState(boolean found, boolean displayed, boolean enabled, String text) {}
+
+    private final WebDriver driver;
+
+    public ElementReader(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Get the visible text of every element matching the locator
+     * @param locator CSS, id, class name, tag name, name or XPath locator
+     * @return texts in document order, empty list if nothing matches
+     */
+    public List<String> getTexts(By locator) {
+        By.Remotable.Parameters params = toParameters(locator);
+        return toStringList(execute(READ_TEXTS, params.using(), params.value()));
+    }
+
+    /**
+     * Get the given attribute of every element matching the locator
+     * @param locator CSS, id, class name, tag name, name or XPath locator
+     * @param attribute attribute or property name (e.g. "value", "src", "id")
+     * @return attribute values in document order (null where the attribute is absent)
+     */
+    public List<String> getAttributes(By locator, String attribute) {
+        By.Remotable.Parameters params = toParameters(locator);
+        return toStringList(execute(READ_ATTRIBUTES, params.using(), params.value(), attribute));
+    }
+
+    /**
+     * Read several values per row for every row matching the locator, e.g. one record per product card
+     * @param rowLocator CSS or XPath locator of the row/container elements
+     * @param columns column name to child CSS selector; append "@attribute" to read an attribute
+     *                instead of the visible text, or use "@attribute" alone to read from the row itself
+     * @return one map per row in document order (null values where a child element is missing)
+     */
+    public List<Map<String, String>> getRows(By rowLocator, Map<String, String> columns) {
+        By.Remotable.Parameters params = toParameters(rowLocator);
+        Object result = execute(READ_ROWS, params.using(), params.value(), columns);
+        List<Map<String, String>> rows = new ArrayList<>();
+        if (result instanceof List<?> list) {
+            for (Object row : list) {
+                Map<String, String> values = new HashMap<>();
+                if (row instanceof Map<?, ?> map) {
+                    map.forEach((key, value) -> values.put(key.toString(), value == null ? null : value.toString()));
+                }
+                rows.add(values);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Read the visible texts for several CSS selectors at once, e.g. a list section plus its summary labels
+     * @param cssSelectors key to CSS selector
+     * @return key to texts of every matching element in document order (empty list when nothing matches)
+     */
+    public Map<String, List<String>> getTextGroups(Map<String, String> cssSelectors) {
+        Object result = execute(READ_TEXT_GROUPS, cssSelectors);
+        Map<String, List<String>> groups = new HashMap<>();
+        for (String key : cssSelectors.keySet()) {
+            Object group = result instanceof Map<?, ?> map ? map.get(key) : null;
+            groups.put(key, toStringList(group));
+        }
+        return groups;
+    }
+
+    /**
+     * Read found / displayed / enabled / text state of the first element of every locator in one script call
+     * @param locators CSS or XPath locators
+     * @return one state per locator, in the same order
+     */
+    public List<ElementState> getStates(List<By> locators) {
+        List<List<Object>> params = new ArrayList<>();
+        for (By locator : locators) {
+            By.Remotable.Parameters remote = toParameters(locator);
+            params.add(List.of(remote.using(), remote.value()));
+        }
+        Object result = execute(READ_STATES, params);
+        List<ElementState> states = new ArrayList<>();
+        if (result instanceof List<?> list) {
+            for (Object item : list) {
+                Map<?, ?> state = (Map<?, ?>) item;
+                states.add(new ElementState(
+                        Boolean.TRUE.equals(state.get("found")),
+                        Boolean.TRUE.equals(state.get("displayed")),
+                        Boolean.TRUE.equals(state.get("enabled")),
+                        String.valueOf(state.get("text"))));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * @return true if the locator can be resolved inside a script (CSS-convertible or XPath)
+     */
+    public static boolean isScriptResolvable(By locator) {
+        try {
+            toParameters(locator);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private Object execute(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
+    }
+
+    static By.Remotable.Parameters toParameters(By locator) {
+        if (locator instanceof By.Remotable remotable) {
+            By.Remotable.Parameters params = remotable.getRemoteParameters();
+            if ("css selector".equals(params.using()) || "xpath".equals(params.using())) {
+                return params;
+            }
+        }
+        throw new IllegalArgumentException("Locator cannot be resolved in a single script: " + locator);
+    }
+
+    private static List<String> toStringList(Object result) {
+        List<String> values = new ArrayList<>();
+        if (result instanceof List<?> list) {
+            for (Object value : list) {
+                values.add(value == null ? null : value.toString());
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,35 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * One node of a FixtureGraph: a browser state tests start from, such as "logged in as standard_user" or
+ * "cart holds these items". A node's state includes its parent's.
+ */
+public interface Fixture {
+
+    /**
+     * @return true when the browser is in this state, whichever page it shows. Must not change the page.
+     */
+    boolean holds(WebDriver driver);
+
+    /**
+     * Go from the parent's state, shown on the parent's page, to this one through the UI as a user would.
+     * The first node of a path starts from a fresh browser.
+     */
+    void build(WebDriver driver);
+
+    /**
+     * Set this state (parents included) directly, e.g. through cookies and web storage, instead of the UI
+     *
+     * @return false, without touching the browser, when the node has no such shortcut
+     */
+    default boolean inject(WebDriver driver) {
+        return false;
+    }
+
+    /**
+     * Show the page this state is tested on, after holds() or inject()
+     */
+    void show(WebDriver driver);
+}
@@ -0,0 +1,174 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Named fixture nodes that @Precondition paths are built from, e.g. loggedIn(user), cartWith(items)
+ * and atCheckoutStep(n) for SauceDemo.
+ *
+ * reach() starts from the deepest node of the path whose state the browser still holds (left behind by
+ * the previous test on this worker) and builds only the nodes below it. When nothing holds, a browser
+ * kept from the previous test is released and the path is set up from scratch: with fixture.mode=inject
+ * (default) from the deepest node that can inject its state directly, with fixture.mode=ui through the
+ * UI from the root.
+ *
+ * Also keeps the per-thread bookkeeping that lets a passed test leave its browser to the next one.
+ */
+public class FixtureGraph {
+
+    /**
+     * Creates a node from its parent (null for the first node of a path) and its arguments
+     */
+    @FunctionalInterface
+    public interface NodeFactory {
+        Fixture create(Fixture parent, List<String> arguments);
+    }
+
+    private static final Pattern SEGMENT = Pattern.compile("(\\w+)(?:\\((.*)\\))?");
+
+    private static final ThreadLocal<String> currentPrecondition = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> browserKept = ThreadLocal.withInitial(() -> false);
+    private static final LongAdder reused = new LongAdder();
+    private static final LongAdder injected = new LongAdder();
+    private static final LongAdder built = new LongAdder();
+
+    private final Map<String, NodeFactory> factories = new LinkedHashMap<>();
+
+    public FixtureGraph node(String name, NodeFactory factory) {
+        factories.put(name, factory);
+        return this;
+    }
+
+    /**
+     * Bring the browser into the state the path describes, showing that state's page
+     */
+    public void reach(WebDriver driver, String path) {
+        List<Fixture> chain = resolve(path);
+        int start = chain.size() - 1;
+        while (start >= 0 && !holds(chain.get(start), driver)) {
+            start--;
+        }
+        String reachedBy = "reused";
+        if (start >= 0) {
+            reused.add(start + 1L);
+            chain.get(start).show(driver);
+        } else {
+            if (browserKept.get()) {
+                browserKept.set(false);
+                DriverManager.releaseDriver(); // Fresh (or, in queue mode, reset) browser
+            }
+            reachedBy = "built";
+            if (!"ui".equalsIgnoreCase(ConfigReader.getProperty("fixture.mode", "inject"))) {
+                start = chain.size() - 1;
+                while (start >= 0 && !chain.get(start).inject(driver)) {
+                    start--;
+                }
+                if (start >= 0) {
+                    injected.add(start + 1L);
+                    chain.get(start).show(driver);
+                    reachedBy = "injected";
+                }
+            }
+        }
+        for (int node = start + 1; node < chain.size(); node++) {
+            chain.get(node).build(driver);
+        }
+        built.add(chain.size() - 1L - start);
+        LoggerUtil.info(String.format("Precondition %s: %s %d of %d nodes, built the rest through the UI",
+                path, reachedBy, start + 1, chain.size()));
+    }
+
+    /**
+     * The path's nodes, root first
+     */
+    List<Fixture> resolve(String path) {
+        List<Fixture> chain = new ArrayList<>();
+        Fixture parent = null;
+        for (String segment : segments(path)) {
+            Matcher matcher = SEGMENT.matcher(segment);
+            if (!matcher.matches() || !factories.containsKey(matcher.group(1))) {
+                throw new IllegalArgumentException("Unknown fixture '" + segment + "' in precondition '" + path
+                        + "', expected one of " + factories.keySet());
+            }
+            List<String> arguments = matcher.group(2) == null || matcher.group(2).isBlank() ? List.of()
+                    : Arrays.stream(matcher.group(2).split(",")).map(String::trim).toList();
+            parent = factories.get(matcher.group(1)).create(parent, arguments);
+            chain.add(parent);
+        }
+        return chain;
+    }
+
+    public static List<String> segments(String path) {
+        return Arrays.stream(path.split(">")).map(String::trim).filter(segment -> !segment.isEmpty()).toList();
+    }
+
+    private static boolean holds(Fixture fixture, WebDriver driver) {
+        try {
+            return fixture.holds(driver);
+        } catch (RuntimeException e) {
+            return false; // Open alert, closed window...: nothing to reuse
+        }
+    }
+
+    // ==================== Per-thread bookkeeping ====================
+
+    /**
+     * Called before each test: a test without a precondition never starts on a kept browser
+     */
+    public static void beforeTest(Method testMethod) {
+        currentPrecondition.set(getPrecondition(testMethod));
+        if (browserKept.get() && currentPrecondition.get() == null) {
+            browserKept.set(false);
+            DriverManager.releaseDriver();
+        }
+    }
+
+    /**
+     * @return the running test's @Precondition path, or null if it has none
+     */
+    public static String currentPrecondition() {
+        return currentPrecondition.get();
+    }
+
+    /**
+     * Called after each test
+     *
+     * @return true when the browser should stay open so the next test can reuse the state it is in
+     */
+    public static boolean keepBrowser(ITestResult result) {
+        boolean keep = currentPrecondition.get() != null && result.isSuccess();
+        currentPrecondition.remove();
+        browserKept.set(keep);
+        return keep;
+    }
+
+    /**
+     * @return the method's @Precondition, or its class's, or null
+     */
+    public static String getPrecondition(Method testMethod) {
+        Precondition precondition = testMethod.getAnnotation(Precondition.class);
+        if (precondition == null) {
+            precondition = testMethod.getDeclaringClass().getAnnotation(Precondition.class);
+        }
+        return precondition == null ? null : precondition.value();
+    }
+
+    /**
+     * One-line summary for logs and reports
+     */
+    public static String getStatistics() {
+        return String.format("Preconditions: %d fixture nodes reused, %d injected, %d built through the UI",
+                reused.sum(), injected.sum(), built.sum());
+    }
+}
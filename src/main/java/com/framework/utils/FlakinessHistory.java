@@ -0,0 +1,94 @@
+package com.framework.utils;
+
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test retry outcomes kept in a small properties file
+ * (qualified method name = flakiness score, runs, passes on a retry, failures after every retry).
+ *
+ * The flakiness score is an exponentially weighted average of "passed only on a retry" over the recorded
+ * runs: it rises with each pass that needed a retry and decays with each pass at the first attempt, so
+ * a test that has been fixed leaves the quarantine again. Failing every attempt does not count as flaky.
+ */
+public class FlakinessHistory {
+
+    public enum Outcome {
+        PASSED, PASSED_ON_RETRY, FAILED
+    }
+
+    public record Stats(double score, int runs, int passedOnRetry, int failed) {
+    }
+
+    private static final double WEIGHT_OF_LATEST_RUN = 0.3;
+    private static final Stats NEVER_RUN = new Stats(0, 0, 0, 0);
+    private static FlakinessHistory configured;
+
+    private final Path file;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+
+    private FlakinessHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the history at retry.historyFile, loaded once per JVM
+     */
+    public static synchronized FlakinessHistory getConfigured() {
+        if (configured == null) {
+            configured = load(Path.of(ConfigReader.getProperty("retry.historyFile", ".test-history/flakiness.properties")));
+        }
+        return configured;
+    }
+
+    /**
+     * @return the history stored in file, or an empty history when the file does not exist or is unreadable
+     */
+    public static FlakinessHistory load(Path file) {
+        FlakinessHistory history = new FlakinessHistory(file);
+        history.stats.putAll(PropertiesStore.load(file, "flakiness history", value -> {
+            String[] fields = value.split(" ");
+            return new Stats(Double.parseDouble(fields[0]),
+                    Integer.parseInt(fields[1]), Integer.parseInt(fields[2]), Integer.parseInt(fields[3]));
+        }));
+        return history;
+    }
+
+    /**
+     * @param method qualified method name, e.g. com.framework.tests.saucedemo.LoginTest.testValidLogin
+     * @return the recorded outcomes, all zero when the method has never been recorded
+     */
+    public Stats getStats(String method) {
+        return stats.getOrDefault(method, NEVER_RUN);
+    }
+
+    /**
+     * Add the final outcome of one invocation of method
+     */
+    public void record(String method, Outcome outcome) {
+        double flaky = outcome == Outcome.PASSED_ON_RETRY ? 1 : 0;
+        stats.merge(method, new Stats(flaky, 1, (int) flaky, outcome == Outcome.FAILED ? 1 : 0),
+                (old, latest) -> new Stats(
+                        WEIGHT_OF_LATEST_RUN * latest.score() + (1 - WEIGHT_OF_LATEST_RUN) * old.score(),
+                        old.runs() + 1, old.passedOnRetry() + latest.passedOnRetry(), old.failed() + latest.failed()));
+        changed = true;
+    }
+
+    /**
+     * Write the history to its file if anything was recorded since it was loaded
+     */
+    public synchronized void save() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+
+        PropertiesStore.save(file, "flakiness history",
+                "Flakiness score, runs, passes on a retry, failures after every retry; maintained by FlakyTestLane",
+                stats, s -> String.format(Locale.ROOT, "%.4f %d %d %d",
+                        s.score(), s.runs(), s.passedOnRetry(), s.failed()));
+    }
+}
@@ -0,0 +1,146 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.internal.annotations.DisabledRetryAnalyzer;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Retries failed tests (SmartRetryAnalyzer), records per test whether it passed at the first attempt,
+ * only on a retry or not at all (FlakinessHistory), and keeps chronically flaky tests out of the main run.
+ *
+ * A test is quarantined once it has at least retry.quarantineMinRuns recorded runs and a flakiness score
+ * of at least retry.quarantineScore. retry.lane chooses what runs:
+ *   main       - everything except quarantined tests (default), so they cannot fail the main run
+ *   quarantine - only the quarantined tests, e.g. as a separate CI job that is allowed to fail
+ *   all        - everything
+ * A quarantined test that passes at the first attempt in the quarantine lane brings its score down until
+ * it rejoins the main lane. The history is written to retry.historyFile when each suite finishes.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs, so the framework's unit tests are never retried or
+ * quarantined, and after TestShardFilter: shards are split from the full method list, and each node then
+ * drops quarantined tests from its own slice.
+ */
+public class FlakyTestLane implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    public enum Lane {
+        MAIN, QUARANTINE, ALL
+    }
+
+    /**
+     * Invocations whose failed attempt is being retried on this run
+     */
+    private static final Set<String> retriedInvocations = ConcurrentHashMap.newKeySet();
+
+    private FlakinessHistory history;
+
+    public FlakyTestLane() {
+    }
+
+    FlakyTestLane(FlakinessHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (Integer.parseInt(ConfigReader.getProperty("retry.maxRetries", "1")) > 0) {
+            for (IMethodInstance instance : methods) {
+                ITestNGMethod method = instance.getMethod();
+                if (method.getRetryAnalyzerClass() == null
+                        || method.getRetryAnalyzerClass() == DisabledRetryAnalyzer.class) {
+                    method.setRetryAnalyzerClass(SmartRetryAnalyzer.class); // Keep a test's own analyzer
+                }
+            }
+        }
+        return select(methods, Lane.valueOf(ConfigReader.getProperty("retry.lane", "main").toUpperCase(Locale.ROOT)));
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (result.wasRetried()) {
+            retriedInvocations.add(invocation(result));
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (ResultCacheListener.isFromCache(result)) {
+            retriedInvocations.remove(invocation(result));
+            return; // Not a run of the test
+        }
+        boolean retried = retriedInvocations.remove(invocation(result));
+        if (retried) {
+            LoggerUtil.warn("Passed on retry: " + result.getMethod().getQualifiedName());
+        }
+        history().record(result.getMethod().getQualifiedName(),
+                retried ? FlakinessHistory.Outcome.PASSED_ON_RETRY : FlakinessHistory.Outcome.PASSED);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        retriedInvocations.remove(invocation(result));
+        history().record(result.getMethod().getQualifiedName(), FlakinessHistory.Outcome.FAILED);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        history().save();
+    }
+
+    List<IMethodInstance> select(List<IMethodInstance> methods, Lane lane) {
+        if (lane == Lane.ALL) {
+            return methods;
+        }
+        List<IMethodInstance> selected = new ArrayList<>();
+        List<String> quarantined = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            String name = instance.getMethod().getQualifiedName();
+            boolean isQuarantined = isQuarantined(history().getStats(name));
+            if (isQuarantined) {
+                quarantined.add(String.format(Locale.ROOT, "%s (%.2f)", name, history().getStats(name).score()));
+            }
+            if (isQuarantined == (lane == Lane.QUARANTINE)) {
+                selected.add(instance);
+            }
+        }
+        if (quarantined.isEmpty()) {
+            return selected;
+        }
+        if (lane == Lane.MAIN) {
+            LoggerUtil.warn(String.format("Flaky lane main: not running %d quarantined methods %s;"
+                    + " run them with -Dretry.lane=quarantine", quarantined.size(), quarantined));
+        } else {
+            LoggerUtil.info(String.format("Flaky lane quarantine: running %d of %d methods: %s",
+                    selected.size(), methods.size(), quarantined));
+        }
+        return selected;
+    }
+
+    static boolean isQuarantined(FlakinessHistory.Stats stats) {
+        return stats.runs() >= Integer.parseInt(ConfigReader.getProperty("retry.quarantineMinRuns", "3"))
+                && stats.score() >= Double.parseDouble(ConfigReader.getProperty("retry.quarantineScore", "0.4"));
+    }
+
+    private static String invocation(ITestResult result) {
+        return result.getMethod().getQualifiedName() + Arrays.deepToString(result.getParameters())
+                + "@" + System.identityHashCode(result.getInstance());
+    }
+
+    private synchronized FlakinessHistory history() {
+        if (history == null) {
+            history = FlakinessHistory.getConfigured();
+        }
+        return history;
+    }
+}
@@ -0,0 +1,159 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the browsing context (window handle + frame path) of a WebDriver session and drops
+ * switchTo() calls that would not change it, e.g. the defaultContent() issued by every page constructor.
+ *
+ * The context becomes unknown (so the next switch always reaches the driver) when the current window
+ * is closed, or when a mutating command runs while inside a frame, since it may have removed the frame.
+ * Navigation always returns to the top-level document, as defined by the WebDriver spec.
+ */
+public class FrameContextTracker extends WebDriverDecorator<WebDriver> {
+
+    private static final List<String> TOP_LEVEL = List.of();
+
+    // null = unknown, empty = top-level document, otherwise the frames entered from the top
+    private List<String> framePath = TOP_LEVEL;
+    private String windowHandle;
+    private final AtomicLong switches = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        Object original = target.getOriginal();
+        String name = method.getName();
+
+        if (original instanceof WebDriver.TargetLocator) {
+            if (isNoOpSwitch(name, args)) {
+                skipped.incrementAndGet();
+                return createProxy(getDecoratedDriver(), WebDriver.class);
+            }
+            Object result = super.call(target, method, args);
+            recordSwitch(name, args);
+            return result;
+        }
+
+        Object result = super.call(target, method, args);
+        recordCommand(original, name);
+        return result;
+    }
+
+    @Override
+    public Object onError(Decorated<?> target, Method method, Object[] args, InvocationTargetException e) throws Throwable {
+        // A failed switch (e.g. frame not yet attached) leaves the driver in an unspecified context
+        if (target.getOriginal() instanceof WebDriver.TargetLocator) {
+            framePath = null;
+        }
+        return super.onError(target, method, args, e);
+    }
+
+    /**
+     * @return true when the session is known to be in the top-level document of its window
+     */
+    public boolean isInDefaultContent() {
+        return TOP_LEVEL.equals(framePath);
+    }
+
+    /**
+     * @param framePath frame ids/names entered from the top-level document, outermost first
+     * @return true when the session is known to be inside exactly that frame
+     */
+    public boolean isInFrame(List<String> framePath) {
+        return framePath.equals(this.framePath);
+    }
+
+    public long getSwitchCount() {
+        return switches.get();
+    }
+
+    public long getSkippedCount() {
+        return skipped.get();
+    }
+
+    /**
+     * One-line summary for logs and reports
+     */
+    public String getStatistics() {
+        return String.format("Frame context: %d switches sent, %d redundant switches skipped",
+                switches.get(), skipped.get());
+    }
+
+    private boolean isNoOpSwitch(String name, Object[] args) {
+        return switch (name) {
+            case "defaultContent" -> isInDefaultContent();
+            case "window" -> windowHandle != null && windowHandle.equals(args[0]) && isInDefaultContent();
+            default -> false;
+        };
+    }
+
+    private void recordSwitch(String name, Object[] args) {
+        if (!name.equals("alert") && !name.equals("activeElement")) {
+            switches.incrementAndGet();
+        }
+        switch (name) {
+            case "defaultContent" -> framePath = TOP_LEVEL;
+            case "frame" -> {
+                if (framePath != null) {
+                    List<String> path = new ArrayList<>(framePath);
+                    path.add(frameKey(args[0]));
+                    framePath = List.copyOf(path);
+                }
+            }
+            case "parentFrame" -> {
+                if (framePath != null && !framePath.isEmpty()) {
+                    framePath = List.copyOf(framePath.subList(0, framePath.size() - 1));
+                }
+            }
+            case "window" -> {
+                // Switching windows selects that window's top-level document
+                windowHandle = (String) args[0];
+                framePath = TOP_LEVEL;
+            }
+            case "newWindow" -> {
+                windowHandle = null;
+                framePath = TOP_LEVEL;
+            }
+            default -> {
+                // alert() and activeElement() do not change the browsing context
+            }
+        }
+    }
+
+    private void recordCommand(Object original, String name) {
+        switch (name) {
+            case "get", "to", "back", "forward", "refresh" -> framePath = TOP_LEVEL;
+            case "close" -> {
+                windowHandle = null;
+                framePath = null;
+            }
+            default -> {
+                if (framePath != null && !framePath.isEmpty() && !ReadCacheDecorator.isReadOnly(original, name)) {
+                    framePath = null;
+                }
+            }
+        }
+    }
+
+    private static String frameKey(Object frame) {
+        if (frame instanceof WebElement element) {
+            Object unwrapped = element instanceof WrapsElement wrapper ? wrapper.getWrappedElement() : element;
+            return unwrapped instanceof RemoteWebElement remote
+                    ? "element:" + remote.getId()
+                    : "element:" + System.identityHashCode(unwrapped);
+        }
+        return String.valueOf(frame);
+    }
+}
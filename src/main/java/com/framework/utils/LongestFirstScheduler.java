@@ -0,0 +1,244 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.xml.XmlSuite;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+
+/**
+ * Orders tests longest-first from a duration history so parallel workers finish at about the same time.
+ *
+ * TestNG hands free methods to workers in the order returned here, so with parallel="methods" the
+ * methods are sorted by expected duration including the longest chain of tests that must follow them (a
+ * method that unblocks a long chain starts early). Priorities are numbered per class, so they only order
+ * the methods of one class: a priority-2 test still follows the priority-1 tests of its class, but not
+ * those of other classes. dependsOnMethods/dependsOnGroups are still enforced by TestNG itself. With
+ * parallel="classes" whole classes are ordered by their total duration and methods keep their order
+ * inside the class; serial runs are left untouched.
+ *
+ * Durations of passed and failed tests are written to scheduler.historyFile when each suite finishes.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs, so only UI tests are recorded in the history.
+ */
+public class LongestFirstScheduler implements IMethodInterceptor, ITestListener, ISuiteListener {
+
+    private TestDurationHistory history;
+
+    public LongestFirstScheduler() {
+    }
+
+    LongestFirstScheduler(TestDurationHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!isEnabled()) {
+            return methods;
+        }
+        return schedule(methods, context.getCurrentXmlTest().getParallel());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result);
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (isEnabled()) {
+            history().save();
+        }
+    }
+
+    List<IMethodInstance> schedule(List<IMethodInstance> methods, XmlSuite.ParallelMode mode) {
+        if (methods.size() < 2) {
+            return methods;
+        }
+        Map<ITestNGMethod, Long> ranks = rank(methods);
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        switch (mode) {
+            case METHODS -> ordered = inClassOrder(methods, Comparator.comparing(
+                    (IMethodInstance instance) -> ranks.get(instance.getMethod()), Comparator.reverseOrder()));
+            case CLASSES, INSTANCES -> {
+                Map<Class<?>, List<IMethodInstance>> byClass = new LinkedHashMap<>();
+                methods.forEach(instance -> byClass
+                        .computeIfAbsent(instance.getMethod().getRealClass(), key -> new ArrayList<>()).add(instance));
+                ordered.clear();
+                byClass.values().stream()
+                        .sorted(Comparator.comparingLong((List<IMethodInstance> group) -> group.stream()
+                                .mapToLong(instance -> expectedMillis(instance.getMethod(), methods)).sum()).reversed())
+                        .forEach(ordered::addAll);
+            }
+            default -> {
+                return methods;
+            }
+        }
+        long known = methods.stream()
+                .filter(instance -> history().getExpectedMillis(key(instance.getMethod())).isPresent())
+                .count();
+        LoggerUtil.info(String.format("Scheduled %d methods longest-first (%s), %d with recorded durations",
+                methods.size(), mode, known));
+        return ordered;
+    }
+
+    /**
+     * Orders methods so that each one follows the lower-priority methods of its class and the methods it
+     * depends on; of the methods that may go next, the first one by preference goes first, and ties keep
+     * the given order
+     */
+    static List<IMethodInstance> inClassOrder(List<IMethodInstance> methods, Comparator<IMethodInstance> preference) {
+        Map<IMethodInstance, Integer> positions = new IdentityHashMap<>();
+        Map<IMethodInstance, Integer> waitingOn = new IdentityHashMap<>();
+        for (IMethodInstance instance : methods) {
+            positions.put(instance, positions.size());
+            waitingOn.put(instance, (int) methods.stream()
+                    .filter(other -> mustPrecede(other.getMethod(), instance.getMethod()))
+                    .count());
+        }
+        PriorityQueue<IMethodInstance> ready = new PriorityQueue<>(preference.thenComparing(positions::get));
+        methods.stream().filter(instance -> waitingOn.get(instance) == 0).forEach(ready::add);
+        List<IMethodInstance> ordered = new ArrayList<>(methods.size());
+        while (!ready.isEmpty()) {
+            IMethodInstance next = ready.poll();
+            ordered.add(next);
+            for (IMethodInstance other : methods) {
+                if (mustPrecede(next.getMethod(), other.getMethod()) && waitingOn.merge(other, -1, Integer::sum) == 0) {
+                    ready.add(other);
+                }
+            }
+        }
+        if (ordered.size() < methods.size()) {
+            // TestNG rejects cyclic dependencies; leave the methods on a cycle in their given order
+            methods.stream().filter(instance -> waitingOn.get(instance) > 0).forEach(ordered::add);
+        }
+        return ordered;
+    }
+
+    /**
+     * @return true when before has a lower priority in the same class as after, or after depends on it
+     */
+    private static boolean mustPrecede(ITestNGMethod before, ITestNGMethod after) {
+        if (before.getRealClass() == after.getRealClass() && before.getPriority() < after.getPriority()) {
+            return true;
+        }
+        return dependsOn(after, before);
+    }
+
+    /**
+     * Expected duration of each method plus the longest chain of methods that must follow it
+     */
+    private Map<ITestNGMethod, Long> rank(List<IMethodInstance> methods) {
+        Map<ITestNGMethod, List<ITestNGMethod>> dependents = new IdentityHashMap<>();
+        for (IMethodInstance upstream : methods) {
+            ITestNGMethod method = upstream.getMethod();
+            List<ITestNGMethod> waiting = new ArrayList<>();
+            for (IMethodInstance candidate : methods) {
+                if (mustPrecede(method, candidate.getMethod())) {
+                    waiting.add(candidate.getMethod());
+                }
+            }
+            dependents.put(method, waiting);
+        }
+        Map<ITestNGMethod, Long> ranks = new IdentityHashMap<>();
+        methods.forEach(instance -> rankOf(instance.getMethod(), dependents, methods, ranks, new IdentityHashMap<>()));
+        return ranks;
+    }
+
+    private long rankOf(ITestNGMethod method, Map<ITestNGMethod, List<ITestNGMethod>> dependents,
+                        List<IMethodInstance> methods, Map<ITestNGMethod, Long> ranks, Map<ITestNGMethod, Boolean> visiting) {
+        Long known = ranks.get(method);
+        if (known != null) {
+            return known;
+        }
+        if (visiting.put(method, Boolean.TRUE) != null) {
+            // TestNG rejects cyclic dependencies; never recurse forever on one
+            return 0;
+        }
+        long longestChain = 0;
+        for (ITestNGMethod dependent : dependents.getOrDefault(method, List.of())) {
+            longestChain = Math.max(longestChain, rankOf(dependent, dependents, methods, ranks, visiting));
+        }
+        long rank = expectedMillis(method, methods) + longestChain;
+        ranks.put(method, rank);
+        return rank;
+    }
+
+    /**
+     * Recorded duration, else the mean of the recorded methods of the same class, else of the whole list
+     */
+    private long expectedMillis(ITestNGMethod method, List<IMethodInstance> methods) {
+        return history().getExpectedMillis(key(method)).orElseGet(() -> {
+            OptionalDouble sameClass = meanOf(methods.stream()
+                    .map(IMethodInstance::getMethod)
+                    .filter(other -> other.getRealClass() == method.getRealClass())
+                    .toList());
+            OptionalDouble all = meanOf(methods.stream().map(IMethodInstance::getMethod).toList());
+            return Math.round(sameClass.orElse(all.orElse(1)));
+        });
+    }
+
+    private OptionalDouble meanOf(List<ITestNGMethod> methods) {
+        return methods.stream()
+                .map(method -> history().getExpectedMillis(key(method)))
+                .filter(OptionalLong::isPresent)
+                .mapToLong(OptionalLong::getAsLong)
+                .average();
+    }
+
+    /**
+     * @return true when dependent declares dependsOnMethods/dependsOnGroups that upstream satisfies
+     */
+    static boolean dependsOn(ITestNGMethod dependent, ITestNGMethod upstream) {
+        if (dependent == upstream) {
+            return false;
+        }
+        String upstreamName = key(upstream);
+        if (Arrays.stream(dependent.getMethodsDependedUpon()).anyMatch(upstreamName::matches)) {
+            return true;
+        }
+        List<String> upstreamGroups = Arrays.asList(upstream.getGroups());
+        return Arrays.stream(dependent.getGroupsDependedUpon()).anyMatch(upstreamGroups::contains);
+    }
+
+    private void record(ITestResult result) {
+        if (isEnabled()) {
+            history().record(key(result.getMethod()), result.getEndMillis() - result.getStartMillis());
+        }
+    }
+
+    private synchronized TestDurationHistory history() {
+        if (history == null) {
+            history = TestDurationHistory.getConfigured();
+        }
+        return history;
+    }
+
+    private static boolean isEnabled() {
+        return Boolean.parseBoolean(ConfigReader.getProperty("scheduler.enabled", "true"));
+    }
+
+    private static String key(ITestNGMethod method) {
+        return method.getQualifiedName();
+    }
+}
@@ -0,0 +1,196 @@
+package com.framework.utils;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.SkipException;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-origin circuit breaker around page loads (PageNavigator.open), so that the tests of a site that is
+ * down are skipped at once instead of each one waiting out the page-load timeout.
+ *
+ * Each origin (scheme, host and port of the URL) starts closed: page loads go through. After
+ * circuitBreaker.failures consecutive loads from it failed to connect or timed out (default 3, 0 = off)
+ * the circuit opens, and every later load from that origin throws a SkipException naming the origin and
+ * the last failure, so the test is reported as skipped with that reason. After circuitBreaker.openSeconds
+ * (default 60) the circuit is half-open: the next load is let through as a probe while other threads keep
+ * skipping. A probe that loads the page closes the circuit again, one that fails opens it for another period.
+ * Other failures (an aborted session, a script error) neither count as a failure nor reset the count.
+ * OriginPreflight can also open a circuit before the first test, when the pre-flight check cannot reach the site.
+ */
+public final class OriginCircuitBreaker {
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final class Circuit {
+        private State state = State.CLOSED;
+        private int failures; // Consecutive
+        private String reason; // Why the circuit is open
+        private long openedAtMillis;
+    }
+
+    private static OriginCircuitBreaker configured;
+
+    private final int failureThreshold;
+    private final long openMillis;
+    private final LongSupplier clockMillis;
+    private final Map<String, Circuit> circuits = new ConcurrentHashMap<>();
+
+    OriginCircuitBreaker(int failureThreshold, long openMillis, LongSupplier clockMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+        this.clockMillis = clockMillis;
+    }
+
+    /**
+     * @return the breaker configured by circuitBreaker.failures and circuitBreaker.openSeconds, shared by all threads
+     */
+    public static synchronized OriginCircuitBreaker getConfigured() {
+        if (configured == null) {
+            configured = new OriginCircuitBreaker(
+                    Integer.parseInt(ConfigReader.getProperty("circuitBreaker.failures", "3")),
+                    Long.parseLong(ConfigReader.getProperty("circuitBreaker.openSeconds", "60")) * 1000,
+                    () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime()));
+        }
+        return configured;
+    }
+
+    /**
+     * Run load, which loads url, through the circuit of url's origin
+     *
+     * @throws SkipException when that circuit is open, without running load
+     */
+    public void load(String url, Runnable load) {
+        String origin = origin(url);
+        if (failureThreshold <= 0 || origin == null) {
+            load.run();
+            return;
+        }
+        Circuit circuit = circuits.computeIfAbsent(origin, o -> new Circuit());
+        boolean probe = admit(origin, circuit);
+        try {
+            load.run();
+        } catch (WebDriverException e) {
+            if (isUnreachable(e)) {
+                failed(origin, circuit, e);
+            } else {
+                abandon(circuit, probe);
+            }
+            throw e;
+        } catch (RuntimeException | Error e) {
+            abandon(circuit, probe);
+            throw e;
+        }
+        succeeded(origin, circuit);
+    }
+
+    /**
+     * @return true when the page load failed because the site could not be reached or did not answer in time
+     */
+    static boolean isUnreachable(WebDriverException e) {
+        if (e instanceof TimeoutException) {
+            return true;
+        }
+        String message = e.getMessage();
+        // Chrome reports network errors as net::ERR_..., Firefox as a navigation to its about:neterror page
+        return message != null && (message.contains("net::ERR_") || message.contains("about:neterror"));
+    }
+
+    /**
+     * @return scheme://host[:port] of url, or null when url has none (e.g. about:blank)
+     */
+    static String origin(String url) {
+        try {
+            URI uri = URI.create(url);
+            if (uri.getScheme() == null || uri.getHost() == null) {
+                return null;
+            }
+            return uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return true when this load is the probe of a half-open circuit
+     */
+    private boolean admit(String origin, Circuit circuit) {
+        synchronized (circuit) {
+            if (circuit.state == State.CLOSED) {
+                return false;
+            }
+            long waitedMillis = clockMillis.getAsLong() - circuit.openedAtMillis;
+            if (circuit.state == State.OPEN && waitedMillis >= openMillis) {
+                circuit.state = State.HALF_OPEN;
+                LoggerUtil.info("Circuit for " + origin + " half-open: probing it with the next page load");
+                return true;
+            }
+            throw new SkipException(String.format("%s is unreachable: %s; %s", origin, circuit.reason,
+                    circuit.state == State.HALF_OPEN
+                            ? "a probe page load is in progress"
+                            : String.format("next probe in %d s", (openMillis - waitedMillis + 999) / 1000)));
+        }
+    }
+
+    private void failed(String origin, Circuit circuit, WebDriverException e) {
+        synchronized (circuit) {
+            circuit.failures++;
+            circuit.reason = String.format("%d consecutive page loads failed, last: %s", circuit.failures,
+                    String.valueOf(e.getMessage()).lines().findFirst().orElse(e.getClass().getSimpleName()));
+            if (circuit.state == State.HALF_OPEN || circuit.state == State.CLOSED && circuit.failures >= failureThreshold) {
+                open(origin, circuit);
+            }
+        }
+    }
+
+    /**
+     * Open the circuit of url's origin without waiting for failed page loads, e.g. after a failed pre-flight check
+     *
+     * @param reason why the origin is unreachable, reported by every test skipped for it
+     */
+    public void trip(String url, String reason) {
+        String origin = origin(url);
+        if (failureThreshold <= 0 || origin == null) {
+            return;
+        }
+        Circuit circuit = circuits.computeIfAbsent(origin, o -> new Circuit());
+        synchronized (circuit) {
+            circuit.reason = reason;
+            open(origin, circuit);
+        }
+    }
+
+    private void open(String origin, Circuit circuit) {
+        circuit.state = State.OPEN;
+        circuit.openedAtMillis = clockMillis.getAsLong();
+        LoggerUtil.warn(String.format("Circuit for %s opened (%s): skipping its tests for %d s", origin,
+                circuit.reason, TimeUnit.MILLISECONDS.toSeconds(openMillis)));
+    }
+
+    private void succeeded(String origin, Circuit circuit) {
+        synchronized (circuit) {
+            if (circuit.state != State.CLOSED) {
+                LoggerUtil.info("Circuit for " + origin + " closed: its page loaded again, its tests run again");
+            }
+            circuit.state = State.CLOSED;
+            circuit.failures = 0;
+            circuit.reason = null;
+        }
+    }
+
+    /**
+     * A probe that ended without telling whether the site is reachable: the next load probes again
+     */
+    private void abandon(Circuit circuit, boolean probe) {
+        synchronized (circuit) {
+            if (probe && circuit.state == State.HALF_OPEN) {
+                circuit.state = State.OPEN;
+            }
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestNGMethod;
+import org.testng.SkipException;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Checks every configured base URL before the first test of a suite that opens them (see UsesBaseUrls).
+ *
+ * All URLs are requested at once with java.net.http.HttpClient, within preflight.timeoutSeconds (default 10),
+ * and the status and latency of each are logged. Any HTTP status counts as reachable: some sites answer
+ * clients that are not browsers with 403. Not connecting at all (unknown host, connection refused, TLS
+ * handshake, timeout) is a hard failure, handled by preflight.onFailure:
+ *   skip  - open the origin's circuit in OriginCircuitBreaker, so its tests are skipped until a probe
+ *           page load finds the site back, while the other sites' tests run (default)
+ *   abort - fail the run at once, naming the unreachable URLs
+ * Each URL is checked once per run. preflight.enabled=false turns the check off.
+ *
+ * With preflight.warmUp=true, every newly started browser also loads each reachable base URL once, during
+ * the @BeforeMethod that starts it. The test body that follows, whose duration is recorded, then finds DNS,
+ * TLS sessions and the site's static resources already cached.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs.
+ */
+public class OriginPreflight implements ISuiteListener {
+
+    /**
+     * Outcome of checking one URL: its HTTP status, or the failure when it could not be reached
+     */
+    record Probe(String url, int status, long latencyMillis, String failure) {
+
+        boolean isReachable() {
+            return failure == null;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%s: %s after %d ms", url,
+                    isReachable() ? "HTTP " + status : failure, latencyMillis);
+        }
+    }
+
+    private static final Map<String, Probe> probes = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("preflight.enabled", "true"))
+                || suite.getAllMethods().stream().noneMatch(OriginPreflight::usesBaseUrls)) {
+            return;
+        }
+        List<String> unchecked = Arrays.stream(ConfigReader.getAllBaseUrls()).filter(url -> !probes.containsKey(url)).toList();
+        if (unchecked.isEmpty()) {
+            return;
+        }
+        List<Probe> checked = probe(unchecked,
+                Duration.ofSeconds(Long.parseLong(ConfigReader.getProperty("preflight.timeoutSeconds", "10"))));
+        checked.forEach(probe -> probes.put(probe.url(), probe));
+        checked.forEach(probe -> LoggerUtil.info("Pre-flight " + probe));
+
+        List<Probe> unreachable = checked.stream().filter(probe -> !probe.isReachable()).toList();
+        if (unreachable.isEmpty()) {
+            return;
+        }
+        if ("abort".equalsIgnoreCase(ConfigReader.getProperty("preflight.onFailure", "skip"))) {
+            throw new IllegalStateException("Pre-flight check could not reach "
+                    + unreachable.stream().map(Probe::toString).collect(Collectors.joining("; "))
+                    + " (preflight.onFailure=abort; set it to skip to run the other sites' tests)");
+        }
+        unreachable.forEach(probe -> OriginCircuitBreaker.getConfigured()
+                .trip(probe.url(), "pre-flight check failed with " + probe.failure()));
+    }
+
+    private static boolean usesBaseUrls(ITestNGMethod method) {
+        Class<?> testClass = method.getRealClass(); // Raw Class in the TestNG API
+        return testClass.isAnnotationPresent(UsesBaseUrls.class);
+    }
+
+    /**
+     * Request all urls concurrently
+     *
+     * @return one probe per url, in the same order
+     */
+    static List<Probe> probe(List<String> urls, Duration timeout) {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(timeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+        List<CompletableFuture<Probe>> pending = urls.stream().map(url -> {
+            long start = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(timeout).GET().build();
+            return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .handle((response, failure) -> {
+                        long latencyMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                        return failure == null
+                                ? new Probe(url, response.statusCode(), latencyMillis, null)
+                                : new Probe(url, 0, latencyMillis, describe(failure));
+                    });
+        }).toList();
+        return pending.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Load each base URL that passed the pre-flight check once in driver, a browser that was just started,
+     * and leave it on about:blank. Does nothing unless preflight.warmUp=true.
+     */
+    public static void warmUp(WebDriver driver) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("preflight.warmUp", "false"))) {
+            return;
+        }
+        long start = System.nanoTime();
+        int warmed = 0;
+        for (String url : ConfigReader.getAllBaseUrls()) {
+            Probe probe = probes.get(url);
+            if (probe != null && !probe.isReachable()) {
+                continue;
+            }
+            try {
+                OriginCircuitBreaker.getConfigured().load(url, () -> driver.get(url));
+                warmed++;
+            } catch (SkipException | WebDriverException e) {
+                LoggerUtil.warn("Warm-up skipped " + url + ": "
+                        + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+            }
+        }
+        driver.get("about:blank");
+        LoggerUtil.info(String.format("Warmed up the browser with %d landing pages in %d ms", warmed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+    }
+
+    private static String describe(Throwable failure) {
+        Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause() : failure;
+        return cause.getMessage() == null || cause.getMessage().isBlank()
+                ? cause.getClass().getSimpleName()
+                : cause.getClass().getSimpleName() + " (" + cause.getMessage() + ")";
+    }
+}
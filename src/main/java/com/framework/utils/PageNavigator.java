@@ -0,0 +1,149 @@
+package com.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opens a page unless the browser is already on it in the state it had right after loading.
+ *
+ * After each real navigation the page's fingerprint is recorded per thread: a token set on that very
+ * document, URL, readyState, a hash of the markup plus form-control values, open dialogs, scroll position
+ * and window count. The token makes a new browser session or any reload count as a different page.
+ * When asked for the same URL again and the fingerprint still matches, the navigation and page-load wait
+ * are skipped.
+ * When only the scroll position differs the page is scrolled back instead. Anything else (other URL,
+ * changed DOM or form values, dialog or alert open, extra windows) loads the page for real.
+ * location.reload() is deliberately not used as a cheaper step: Firefox restores form values across a
+ * reload, so it does not give a clean page, and for the same URL it costs about as much as get().
+ *
+ * Every elided navigation is logged. navigation.elide=false always navigates.
+ * Page loads go through OriginCircuitBreaker, which skips the test while the site is unreachable.
+ */
+public final class PageNavigator {
+
+    /**
+     * Outcome of open()
+     */
+    public enum Navigation { LOADED, SKIPPED, SCROLL_RESET }
+
+    /**
+     * arguments[0], when given, tags the document so that a later check can tell it is still the same load
+     * (and the same browser session) rather than an identical-looking copy
+     */
+    private static final String FINGERPRINT =
+            "if (arguments[0]) { window.__pageNavigatorLoad = arguments[0]; }" +
+            "var text = document.documentElement.outerHTML;" +
+            "document.querySelectorAll('input, select, textarea').forEach(function (el) {" +
+            "  text += '|' + el.value + ':' + el.checked + ':' + el.selectedIndex;" +
+            "});" +
+            "var hash = 5381;" +
+            "for (var i = 0; i < text.length; i++) { hash = ((hash << 5) + hash + text.charCodeAt(i)) | 0; }" +
+            "var dialogs = document.querySelectorAll('dialog[open], [aria-modal=\"true\"]').length;" +
+            "return [String(window.__pageNavigatorLoad), location.href, document.readyState," +
+            "  text.length + ':' + hash, String(dialogs), String(window.scrollX), String(window.scrollY)];";
+
+    private record Fingerprint(String load, String url, String readyState, String domHash, String dialogs,
+                               String scrollX, String scrollY, int windows) {
+
+        boolean sameContent(Fingerprint other) {
+            return load.equals(other.load) && url.equals(other.url) && readyState.equals(other.readyState)
+                    && domHash.equals(other.domHash) && dialogs.equals(other.dialogs) && windows == other.windows;
+        }
+
+        boolean sameScroll(Fingerprint other) {
+            return scrollX.equals(other.scrollX) && scrollY.equals(other.scrollY);
+        }
+    }
+
+    /**
+     * Fingerprints taken right after loading, per requested URL, for this thread's browser
+     */
+    private static final ThreadLocal<Map<String, Fingerprint>> pristine = ThreadLocal.withInitial(HashMap::new);
+    private static final LongAdder elided = new LongAdder();
+
+    private PageNavigator() {}
+
+    /**
+     * Navigate to url and wait for the page to load, unless the browser already shows it untouched
+     */
+    public static Navigation open(WebDriver driver, String url) {
+        if (!Boolean.parseBoolean(ConfigReader.getProperty("navigation.elide", "true"))) {
+            load(driver, url);
+            return Navigation.LOADED;
+        }
+        Fingerprint loaded = pristine.get().get(url);
+        if (loaded != null) {
+            driver.switchTo().defaultContent(); // navigation would leave any frame as well
+            Fingerprint current = capture(driver, null);
+            if (current != null && current.sameContent(loaded)) {
+                elided.increment();
+                if (current.sameScroll(loaded)) {
+                    LoggerUtil.info("Elided navigation to " + url + ": page unchanged since it was loaded");
+                    return Navigation.SKIPPED;
+                }
+                ((JavascriptExecutor) driver).executeScript("window.scrollTo(arguments[0], arguments[1]);",
+                        Double.parseDouble(loaded.scrollX()), Double.parseDouble(loaded.scrollY()));
+                LoggerUtil.info("Elided navigation to " + url + ": only scrolled, scroll position reset");
+                return Navigation.SCROLL_RESET;
+            }
+        }
+        load(driver, url);
+        Fingerprint fresh = capture(driver, UUID.randomUUID().toString());
+        if (fresh != null) {
+            pristine.get().put(url, fresh);
+        } else {
+            pristine.get().remove(url);
+        }
+        return Navigation.LOADED;
+    }
+
+    /**
+     * Hash of the current page's markup plus form-control values (scroll position is not part of it),
+     * or null when no script can run (open alert, closed window...)
+     */
+    static String domHash(WebDriver driver) {
+        try {
+            return (String) ((List<?>) ((JavascriptExecutor) driver).executeScript(FINGERPRINT, (Object) null)).get(3);
+        } catch (WebDriverException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the DOM hash open() recorded right after this thread's browser loaded url, null when there is none
+     */
+    static String loadedDomHash(String url) {
+        Fingerprint loaded = pristine.get().get(url);
+        return loaded == null ? null : loaded.domHash();
+    }
+
+    public static long getElidedCount() {
+        return elided.sum();
+    }
+
+    private static void load(WebDriver driver, String url) {
+        OriginCircuitBreaker.getConfigured().load(url, () -> {
+            driver.get(url);
+            new Wait(driver).waitForPageLoad();
+        });
+    }
+
+    private static Fingerprint capture(WebDriver driver, String load) {
+        try {
+            List<?> state = (List<?>) ((JavascriptExecutor) driver).executeScript(FINGERPRINT, load);
+            return new Fingerprint((String) state.get(0), (String) state.get(1), (String) state.get(2),
+                    (String) state.get(3), (String) state.get(4), (String) state.get(5), (String) state.get(6),
+                    driver.getWindowHandles().size());
+        } catch (WebDriverException e) {
+            // An open alert blocks scripts: the page is not in a reusable state
+            return null;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.framework.utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+
+/**
+ * Applies parallel.mode and parallel.threads (config.properties, overridable with -D) to every suite,
+ * including the child suites of the master testng.xml, so the suite XMLs stay free of thread settings.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs; TestNG applies them to the whole run.
+ *
+ * parallel.mode=queue is a work queue rather than a partition: TestNG's parallel="methods" executor already
+ * keeps ready methods in one shared queue that idle threads pull from, one method at a time, so queue mode
+ * runs on it and additionally keeps each worker's browser open between tests (DriverManager.releaseDriver()).
+ * parallel="classes" and "tests" hand whole classes/tests to a thread up front.
+ */
+public class ParallelExecutionConfigurer implements IAlterSuiteListener, ISuiteListener {
+
+    private static final String QUEUE = "queue";
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        String mode = ConfigReader.getProperty("parallel.mode", "none");
+        int threads = Integer.parseInt(ConfigReader.getProperty("parallel.threads", "1"));
+        XmlSuite.ParallelMode parallelMode = isQueueMode()
+                ? XmlSuite.ParallelMode.METHODS
+                : XmlSuite.ParallelMode.getValidParallel(mode);
+        LoggerUtil.info("Parallel execution: mode=" + mode + ", threads=" + threads);
+        suites.forEach(suite -> configure(suite, parallelMode, threads));
+    }
+
+    /**
+     * Warm browsers (queue mode, shared @ReadOnlyPage pages) outlive the worker threads of a suite;
+     * quit them once it is done
+     */
+    @Override
+    public void onFinish(ISuite suite) {
+        LoggerUtil.info(ReadOnlyPageSession.getStatistics());
+        LoggerUtil.info(FixtureGraph.getStatistics());
+        DriverManager.quitAllDrivers();
+    }
+
+    /**
+     * @return true when tests are pulled from a shared queue by workers that keep their browser between tests
+     */
+    public static boolean isQueueMode() {
+        return QUEUE.equalsIgnoreCase(ConfigReader.getProperty("parallel.mode", "none"));
+    }
+
+    private void configure(XmlSuite suite, XmlSuite.ParallelMode mode, int threads) {
+        suite.setParallel(mode);
+        suite.setThreadCount(threads);
+        suite.getTests().forEach(test -> {
+            test.setParallel(mode);
+            test.setThreadCount(threads);
+        });
+        suite.getChildSuites().forEach(child -> configure(child, mode, threads));
+    }
+}
@@ -0,0 +1,24 @@
+package com.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the state a test method (or every test of a class) starts from, as a path through a
+ * FixtureGraph, e.g. "loggedIn(standard_user) > cartWith(sauce-labs-backpack) > atCheckoutStep(1)".
+ *
+ * The test's setup reaches it with BaseTest.reachPrecondition(graph), reusing as much of the state the
+ * previous test on the worker left behind as still holds. PreconditionOrderer runs tests with the same
+ * or a longer path next to each other so that there is something to reuse.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface Precondition {
+
+    /**
+     * Nodes from the root of the graph, separated by ">"
+     */
+    String value();
+}
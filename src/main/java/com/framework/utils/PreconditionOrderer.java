@@ -0,0 +1,48 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Orders tests so that consecutive ones share as much of their @Precondition path as possible.
+ *
+ * Tests are sorted by their path, node by node, so a path comes right before the paths that extend it
+ * (loggedIn, then loggedIn > cartWith(...), then ... > atCheckoutStep(1)) and the next test can reuse the
+ * state the previous one reached. Tests without a precondition keep their relative order and run first.
+ * Priorities only order the tests of one class: a test still follows the lower-priority tests of its class. Declared in the &lt;listeners&gt; of the UI suite XMLs, before
+ * LongestFirstScheduler, which re-sorts parallel methods by recorded duration: the precondition order then
+ * only decides between tests without history.
+ */
+public class PreconditionOrderer implements IMethodInterceptor {
+
+    private static final Comparator<List<String>> BY_PATH = (left, right) -> {
+        for (int node = 0; node < Math.min(left.size(), right.size()); node++) {
+            int order = left.get(node).compareTo(right.get(node));
+            if (order != 0) {
+                return order;
+            }
+        }
+        return Integer.compare(left.size(), right.size());
+    };
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        Map<IMethodInstance, List<String>> paths = new IdentityHashMap<>();
+        boolean any = false;
+        for (IMethodInstance instance : methods) {
+            String precondition = FixtureGraph.getPrecondition(instance.getMethod().getConstructorOrMethod().getMethod());
+            paths.put(instance, precondition == null ? List.of() : FixtureGraph.segments(precondition));
+            any |= precondition != null;
+        }
+        if (!any) {
+            return methods;
+        }
+        return LongestFirstScheduler.inClassOrder(methods, Comparator.comparing(paths::get, BY_PATH));
+    }
+}
@@ -0,0 +1,36 @@
+package com.framework.utils;
+
+import java.math.BigDecimal;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Exact price handling for UI amounts such as "$29.99" or "Item total: $39.98".
+ * Prices are kept as whole cents in a long so sums and comparisons never drift like double does.
+ */
+public class PriceUtil {
+    private static final Pattern AMOUNT_PATTERN = Pattern.compile("(\\d+(?:\\.\\d{1,2})?)");
+
+    private PriceUtil() {}
+
+    /**
+     * Parse the first amount in the text into cents
+     * @param priceText text containing a price (e.g. "Total: $32.39")
+     * @return amount in cents (e.g. 3239)
+     * @throws IllegalArgumentException if the text contains no amount
+     */
+    public static long toCents(String priceText) {
+        Matcher matcher = AMOUNT_PATTERN.matcher(priceText == null ? "" : priceText);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("No price found in: " + priceText);
+        }
+        return new BigDecimal(matcher.group(1)).movePointRight(2).longValueExact();
+    }
+
+    /**
+     * Format cents as a dollar amount (e.g. 3239 -> "$32.39")
+     */
+    public static String formatCents(long cents) {
+        return "$" + BigDecimal.valueOf(cents, 2).toPlainString();
+    }
+}
@@ -0,0 +1,74 @@
+package com.framework.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Reads and writes the small per-test properties files kept between runs (qualified method name = value),
+ * such as the duration history and the result cache.
+ *
+ * Keys are written sorted so that the files stay diffable between runs.
+ */
+final class PropertiesStore {
+
+    private PropertiesStore() {}
+
+    /**
+     * @param description what the file holds, for the log, e.g. "test duration history"
+     * @return the entries of file with their values parsed, empty when the file does not exist or cannot be
+     * read or parsed
+     */
+    static <V> Map<String, V> load(Path file, String description, Function<String, V> parser) {
+        Map<String, V> entries = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return entries;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+            properties.forEach((key, value) -> entries.put((String) key, parser.apply((String) value)));
+        } catch (IOException | RuntimeException e) {
+            LoggerUtil.warn("Ignoring unreadable " + description + " " + file + ": " + e.getMessage());
+            entries.clear();
+        }
+        return entries;
+    }
+
+    /**
+     * Write entries to file sorted by key, creating its directory if needed
+     *
+     * @param description what the file holds, for the error message
+     * @param comment     header line of the file
+     */
+    static <V> void save(Path file, String description, String comment, Map<String, V> entries,
+                         Function<V, String> formatter) {
+        Map<Object, Object> sorted = new TreeMap<>();
+        entries.forEach((key, value) -> sorted.put(key, formatter.apply(value)));
+        Properties properties = new Properties() {
+            @Override
+            public synchronized Set<Map.Entry<Object, Object>> entrySet() {
+                return sorted.entrySet();
+            }
+        };
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (Writer writer = Files.newBufferedWriter(file)) {
+                properties.store(writer, comment);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + description + " " + file, e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Read-through cache around a WebDriver session.
+ * Memoizes getText / getAttribute / isDisplayed results per element so repeated reads of the same
+ * value (e.g. subtotal read by both isSubtotalCorrect() and isTotalCorrect()) cost one round-trip.
+ *
+ * Every command that is not known to be read-only (click, sendKeys, navigation, executeScript,
+ * frame/window switches, actions...) flushes the whole cache before it runs. Entries also expire
+ * after a short TTL, kept below the 500 ms polling interval of the framework's waits, so a wait
+ * polling for an asynchronous change always sees a fresh value.
+ */
+public class ReadCacheDecorator extends WebDriverDecorator<WebDriver> {
+
+    private static final Set<String> CACHEABLE_ELEMENT_READS = Set.of(
+            "getText", "getAttribute", "getDomAttribute", "getDomProperty", "isDisplayed"
+    );
+
+    // Commands that neither change the page nor the session context, so they keep the cache
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of(
+            "findElement", "findElements", "getTagName", "getCssValue", "getRect", "getLocation", "getSize",
+            "isEnabled", "isSelected", "getAccessibleName", "getAriaRole", "getShadowRoot",
+            "getTitle", "getCurrentUrl", "getPageSource", "getWindowHandle", "getWindowHandles",
+            "getScreenshotAs", "getCapabilities", "getSessionId", "manage", "navigate", "switchTo",
+            "getImplicitWaitTimeout", "getPageLoadTimeout", "getScriptTimeout", "getPosition",
+            "getCookies", "getCookieNamed",
+            "toString", "hashCode", "equals", "getWrappedDriver", "getWrappedElement", "getId"
+    );
+
+    private final Map<CacheKey, CachedValue> cache = new ConcurrentHashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong mutations = new AtomicLong();
+    private final long ttlMillis;
+
+    private record CachedValue(Object value, long storedAt) {}
+
+    /**
+     * element is the browser's element id, or for elements that are not RemoteWebElements (fakes) the element itself
+     */
+    private record CacheKey(Object element, String method, List<Object> args) {}
+
+    /**
+     * @param ttlMillis maximum age of a cached read in milliseconds
+     */
+    public ReadCacheDecorator(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public void beforeCall(Decorated<?> target, Method method, Object[] args) {
+        if (!isReadOnly(target.getOriginal(), method.getName())) {
+            mutations.incrementAndGet();
+            flush();
+        }
+        super.beforeCall(target, method, args);
+    }
+
+    @Override
+    public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+        Object original = target.getOriginal();
+        if (!(original instanceof WebElement element) || !CACHEABLE_ELEMENT_READS.contains(method.getName())) {
+            return super.call(target, method, args);
+        }
+
+        CacheKey key = cacheKey(element, method, args);
+        CachedValue cached = cache.get(key);
+        long now = System.currentTimeMillis();
+        if (cached != null && now - cached.storedAt() <= ttlMillis) {
+            hits.incrementAndGet();
+            return cached.value();
+        }
+
+        misses.incrementAndGet();
+        Object value = super.call(target, method, args);
+        if (value != null) {
+            cache.put(key, new CachedValue(value, now));
+        }
+        return value;
+    }
+
+    /**
+     * @return true if the command neither changes the page nor the session context
+     */
+    static boolean isReadOnly(Object original, String name) {
+        boolean elementRead = original instanceof WebElement && CACHEABLE_ELEMENT_READS.contains(name);
+        return elementRead || READ_ONLY_COMMANDS.contains(name);
+    }
+
+    /**
+     * Drop every cached read
+     */
+    public void flush() {
+        if (!cache.isEmpty()) {
+            cache.clear();
+            flushes.incrementAndGet();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getFlushCount() {
+        return flushes.get();
+    }
+
+    /**
+     * Number of commands that may have changed the page so far
+     * Callers can snapshot this value and compare later to know whether page state may be stale
+     */
+    public long getMutationCount() {
+        return mutations.get();
+    }
+
+    /**
+     * @return hits / lookups, 0 when nothing was looked up yet
+     */
+    public double getHitRate() {
+        long lookups = hits.get() + misses.get();
+        return lookups == 0 ? 0 : (double) hits.get() / lookups;
+    }
+
+    /**
+     * One-line summary for logs and reports
+     */
+    public String getStatistics() {
+        return String.format("Read cache: %d hits, %d misses, %d flushes (hit rate %.1f%%)",
+                hits.get(), misses.get(), flushes.get(), getHitRate() * 100);
+    }
+
+    /**
+     * Key on the element the browser knows rather than the proxy: inner decorators (the command counter)
+     * and PageFactory hand out a new proxy for every find of the same element
+     */
+    private static CacheKey cacheKey(WebElement element, Method method, Object[] args) {
+        WebElement unwrapped = unwrap(element);
+        return new CacheKey(unwrapped instanceof RemoteWebElement remote ? remote.getId() : unwrapped,
+                method.getName(), args == null ? List.of() : Arrays.asList(args));
+    }
+
+    static WebElement unwrap(WebElement element) {
+        while (true) {
+            if (element instanceof Decorated<?> decorated && decorated.getOriginal() instanceof WebElement original) {
+                element = original;
+            } else if (element instanceof WrapsElement wraps && wraps.getWrappedElement() != element) {
+                element = wraps.getWrappedElement();
+            } else {
+                return element;
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method (or every test of a class) as only reading the page it opens.
+ *
+ * Consecutive read-only tests on a worker thread share one loaded page: BaseTest.initializeHomePage()
+ * skips the navigation and page-load wait when the browser is still on that URL and the page's DOM hash
+ * (markup plus form values, see ReadOnlyPageSession) matches the one taken right after it was loaded.
+ * A test that does change the page is detected by the next one, which then loads the page again.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ReadOnlyPage {
+}
@@ -0,0 +1,102 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.ITestResult;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-thread bookkeeping for @ReadOnlyPage tests: which page the thread's browser holds, the DOM hash
+ * taken right after it was loaded, and whether the browser may be kept for the next test.
+ * The DOM hash is PageNavigator's: markup plus the live state of form controls, without the scroll
+ * position, which setups change on purpose to reach their section of the shared page.
+ */
+public final class ReadOnlyPageSession {
+
+    private record SharedPage(String url, String domHash, String lastTest) {}
+
+    private static final ThreadLocal<SharedPage> sharedPage = new ThreadLocal<>();
+    private static final ThreadLocal<Method> currentTest = new ThreadLocal<>();
+    private static final LongAdder reused = new LongAdder();
+    private static final LongAdder reloaded = new LongAdder();
+
+    private ReadOnlyPageSession() {}
+
+    /**
+     * Called before each test: a test that may change the page never starts on the shared one
+     */
+    public static void beforeTest(Method testMethod) {
+        currentTest.set(testMethod);
+        if (sharedPage.get() != null && !isReadOnly(testMethod)) {
+            sharedPage.remove();
+            DriverManager.releaseDriver();
+        }
+    }
+
+    /**
+     * @return true when the current test is @ReadOnlyPage and the browser still holds url, unchanged
+     */
+    public static boolean reuse(WebDriver driver, String url) {
+        SharedPage page = sharedPage.get();
+        Method test = currentTest.get();
+        if (page == null || test == null || !isReadOnly(test) || !page.url().equals(url)) {
+            return false;
+        }
+        if (page.domHash().equals(PageNavigator.domHash(driver))) {
+            sharedPage.set(new SharedPage(url, page.domHash(), test.getName()));
+            reused.increment();
+            LoggerUtil.debug("Reusing loaded page " + url + " for " + test.getName());
+            return true;
+        }
+        LoggerUtil.warn("Page " + url + " changed during @ReadOnlyPage test " + page.lastTest() + ", loading it again");
+        sharedPage.remove();
+        reloaded.increment();
+        return false;
+    }
+
+    /**
+     * Record the freshly loaded page, if the current test may share it with the next ones
+     */
+    public static void loaded(WebDriver driver, String url) {
+        Method test = currentTest.get();
+        if (test != null && isReadOnly(test)) {
+            // PageNavigator already hashed the page it just loaded; hash it here only if it did not
+            String hash = PageNavigator.loadedDomHash(url);
+            if (hash == null) {
+                hash = PageNavigator.domHash(driver);
+            }
+            if (hash != null) {
+                sharedPage.set(new SharedPage(url, hash, test.getName()));
+            }
+        }
+    }
+
+    /**
+     * Called after each test
+     *
+     * @return true when the browser should stay open on the shared page for the next test
+     */
+    public static boolean keepBrowser(ITestResult result) {
+        currentTest.remove();
+        if (sharedPage.get() != null && result.isSuccess()
+                && isReadOnly(result.getMethod().getConstructorOrMethod().getMethod())) {
+            return true;
+        }
+        sharedPage.remove();
+        return false;
+    }
+
+    public static boolean isReadOnly(Method testMethod) {
+        return testMethod.isAnnotationPresent(ReadOnlyPage.class)
+                || testMethod.getDeclaringClass().isAnnotationPresent(ReadOnlyPage.class);
+    }
+
+    /**
+     * One-line summary for logs and reports
+     */
+    public static String getStatistics() {
+        return String.format("Read-only pages: %d page loads saved, %d reloads after a page changed",
+                reused.sum(), reloaded.sum());
+    }
+}
@@ -0,0 +1,219 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import org.testng.IConfigurationListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Answers a test from TestResultCache when all its invocations passed in an earlier run with identical
+ * inputs, without starting a browser. BaseTest asks answerFromCache() before running a test body and
+ * answerConfigurationFromCache() before each of its @BeforeMethod/@AfterMethod methods, so a cached test neither
+ * runs nor sets up; it is reported as passed with an Allure "passed from cache" tag.
+ *
+ * The input key hashes the bytecode of every project class the test reaches (TestImpactIndex: the test
+ * class, page objects, utilities, data providers), the config.properties values with their -D overrides,
+ * the resource files of the project (configuration, suite XMLs) and the parameters of its &lt;test&gt;.
+ * Methods whose invocations all executed and passed are recorded when each &lt;test&gt; finishes; a failure
+ * or skip removes the entry.
+ * The key cannot cover the content of the live sites under test, so the cache is off unless cache.enabled=true.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs.
+ */
+public class ResultCacheListener implements IConfigurationListener, ITestListener {
+
+    private static final String FROM_CACHE = "resultCache.hit";
+
+    /**
+     * Properties that choose which tests run, not how they run
+     */
+    private static final List<String> IGNORED_PROPERTY_PREFIXES = List.of("cache.", "impact.", "shard.");
+
+    private record Decision(String key, boolean fromCache) {
+    }
+
+    private static final ThreadLocal<ITestNGMethod> configuredFor = new ThreadLocal<>();
+    private static final Map<ITestNGMethod, Decision> decisions = new ConcurrentHashMap<>();
+    private static TestImpactIndex index;
+    private static String resourcesHash;
+
+    @Override
+    public void beforeConfiguration(ITestResult configuration, ITestNGMethod testMethod) {
+        configuredFor.set(testMethod);
+    }
+
+    @Override
+    public void onFinish(ITestContext context) {
+        if (decisions.isEmpty()) {
+            return;
+        }
+        TestResultCache cache = TestResultCache.getConfigured();
+        int fromCache = 0;
+        for (ITestNGMethod method : context.getAllTestMethods()) {
+            // Dropped with its <test>, so the map does not grow with every suite of the JVM
+            Decision decision = decisions.remove(method);
+            if (decision == null) {
+                continue;
+            }
+            boolean passed = context.getFailedTests().getResults(method).isEmpty()
+                    && context.getSkippedTests().getResults(method).isEmpty()
+                    && context.getFailedButWithinSuccessPercentageTests().getResults(method).isEmpty()
+                    && !context.getPassedTests().getResults(method).isEmpty();
+            if (!passed) {
+                cache.forget(method.getQualifiedName());
+            } else if (decision.fromCache()) {
+                fromCache++; // Keeps the time of the run that executed it
+            } else if (decision.key() != null) {
+                cache.recordPassed(method.getQualifiedName(), decision.key(), System.currentTimeMillis());
+            }
+        }
+        cache.save();
+        if (fromCache > 0) {
+            LoggerUtil.info(String.format("Result cache: %d of %d methods in %s passed from cache",
+                    fromCache, context.getAllTestMethods().length, context.getName()));
+        }
+    }
+
+    /**
+     * @return true when the test passed in an earlier run with the same inputs; it is then marked as
+     * passed from cache and must not be run
+     */
+    public static boolean answerFromCache(ITestResult result) {
+        if (!decide(result.getMethod()).fromCache()) {
+            return false;
+        }
+        result.setStatus(ITestResult.SUCCESS); // TestNG fails a test whose callback was not run
+        result.setAttribute(FROM_CACHE, true);
+        Allure.label("tag", "passed from cache");
+        LoggerUtil.info("Passed from cache: " + result.getMethod().getQualifiedName());
+        return true;
+    }
+
+    /**
+     * @return true for the @BeforeMethod/@AfterMethod methods of a test answered from cache; the
+     * configuration is then marked as passed and must not be run
+     */
+    public static boolean answerConfigurationFromCache(ITestResult configuration) {
+        ITestNGMethod testMethod = configuredFor.get();
+        ITestNGMethod method = configuration.getMethod();
+        if (testMethod == null || !(method.isBeforeMethodConfiguration() || method.isAfterMethodConfiguration())
+                || !decide(testMethod).fromCache()) {
+            return false;
+        }
+        configuration.setStatus(ITestResult.SUCCESS); // TestNG fails a configuration whose callback was not run
+        return true;
+    }
+
+    /**
+     * @return whether the test result was answered from cache rather than by running the test
+     */
+    public static boolean isFromCache(ITestResult result) {
+        return result.getAttribute(FROM_CACHE) != null;
+    }
+
+    private static Decision decide(ITestNGMethod method) {
+        return decisions.computeIfAbsent(method, m -> {
+            if (!Boolean.parseBoolean(ConfigReader.getProperty("cache.enabled", "false"))) {
+                return new Decision(null, false);
+            }
+            String key = key(m);
+            return new Decision(key, key != null && TestResultCache.getConfigured()
+                    .hasPassed(m.getQualifiedName(), key, System.currentTimeMillis()));
+        });
+    }
+
+    private static String key(ITestNGMethod method) {
+        TestImpactIndex scanned;
+        String resources;
+        synchronized (ResultCacheListener.class) {
+            if (index == null) {
+                List<Path> directories = TestImpactIndex.classDirectories(
+                        List.of(ResultCacheListener.class, method.getRealClass()));
+                index = TestImpactIndex.scan(directories);
+                resourcesHash = hashResources(directories);
+            }
+            scanned = index;
+            resources = resourcesHash;
+        }
+        return key(scanned, resources, method.getRealClass(), method.getMethodName(),
+                method.getXmlTest() == null ? Map.of() : method.getXmlTest().getAllParameters());
+    }
+
+    /**
+     * @return the input key of a test method, or null when its class was not compiled into a scanned directory
+     */
+    static String key(TestImpactIndex index, String resourcesHash, Class<?> testClass, String testMethod,
+                      Map<String, String> parameters) {
+        if (!index.contains(testClass.getName())) {
+            return null;
+        }
+        MessageDigest digest = sha256();
+        for (String reached : index.reachedClasses(testClass, testMethod)) {
+            update(digest, "class " + reached);
+            for (Path classFile : index.classFiles(reached)) {
+                try {
+                    digest.update(Files.readAllBytes(classFile));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read " + classFile, e);
+                }
+            }
+        }
+        for (String property : ConfigReader.getPropertyNames()) {
+            if (IGNORED_PROPERTY_PREFIXES.stream().noneMatch(property::startsWith)) {
+                update(digest, "config " + property + "=" + ConfigReader.getProperty(property));
+            }
+        }
+        update(digest, "resources " + resourcesHash);
+        new TreeMap<>(parameters).forEach((name, value) -> update(digest, "parameter " + name + "=" + value));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Hash of the non-class files (configuration, suite XMLs, test data) under the class directories
+     */
+    static String hashResources(List<Path> directories) {
+        MessageDigest digest = sha256();
+        for (Path directory : directories) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.filter(Files::isRegularFile)
+                        .filter(path -> !path.toString().endsWith(".class"))
+                        .sorted()
+                        .toList()) {
+                    update(digest, directory.relativize(file).toString());
+                    digest.update(Files.readAllBytes(file));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read resources under " + directory, e);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String text) {
+        digest.update(text.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
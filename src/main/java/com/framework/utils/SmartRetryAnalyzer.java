@@ -0,0 +1,30 @@
+package com.framework.utils;
+
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+/**
+ * Reruns a failed test up to retry.maxRetries times (default 1). TestNG reports the failed attempts as
+ * skipped and the last attempt as the result. BaseTest resets the browser between attempts instead of
+ * quitting it, so a retry starts from a blank page in an already running browser.
+ *
+ * Attached to every test method by FlakyTestLane, which also records how often each test needed a retry.
+ * TestNG creates one analyzer per test method (and per data-provider row).
+ */
+public class SmartRetryAnalyzer implements IRetryAnalyzer {
+
+    private int retries;
+
+    @Override
+    public boolean retry(ITestResult result) {
+        int maxRetries = Integer.parseInt(ConfigReader.getProperty("retry.maxRetries", "1"));
+        if (retries >= maxRetries) {
+            return false;
+        }
+        retries++;
+        Throwable failure = result.getThrowable();
+        LoggerUtil.warn(String.format("Retrying %s (%d/%d) after: %s", result.getMethod().getQualifiedName(),
+                retries, maxRetries, failure == null ? "failure" : failure.toString().lines().findFirst().orElse("")));
+        return true;
+    }
+}
@@ -0,0 +1,184 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import org.testng.IAlterSuiteListener;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Runs each test method once when several suites of the master testng.xml select it (e.g. the Rahul Shetty
+ * smoke, functional and regression suites all include HomePageTest.testAlert).
+ *
+ * Child suites run in declaration order, so the first suite that selects a method keeps it and later
+ * suites drop it from their includes (or exclude it, for classes listed without includes). A method only
+ * counts as a duplicate when both <test>s pass the same parameters. Tests filtered by groups or packages,
+ * and includes that are regular expressions or pick invocation numbers, are left alone.
+ * Every suite that selected a method is credited on its result as an Allure "suite: ..." tag.
+ * Declared in the &lt;listeners&gt; of the child suite XMLs, which TestNG applies to the whole master run;
+ * suiteDedup.enabled=false turns it off.
+ */
+public class SuiteMethodDeduplicator implements IAlterSuiteListener, IInvokedMethodListener {
+
+    private static final Pattern LITERAL_NAME = Pattern.compile("[\\w$]+");
+    private static final Map<String, Set<String>> creditedSuites = new ConcurrentHashMap<>();
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (Boolean.parseBoolean(ConfigReader.getProperty("suiteDedup.enabled", "true"))) {
+            deduplicate(suites);
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        Set<String> suites = creditedSuites.get(testResult.getMethod().getQualifiedName());
+        if (suites != null && suites.size() > 1) {
+            suites.forEach(suite -> Allure.label("tag", "suite: " + suite));
+        }
+    }
+
+    /**
+     * @return every suite that selected the method, in run order; empty if it was not deduplicated
+     */
+    public static Set<String> getCreditedSuites(String qualifiedMethodName) {
+        return creditedSuites.getOrDefault(qualifiedMethodName, Set.of());
+    }
+
+    /**
+     * Remove repeated selections from suites (and their child suites), in the order TestNG runs them
+     *
+     * @return the number of executions eliminated
+     */
+    int deduplicate(List<XmlSuite> suites) {
+        Map<String, String> firstSelectedBy = new HashMap<>();
+        int[] totals = new int[2]; // selected, eliminated
+        List<String> perSuite = new ArrayList<>();
+        for (XmlSuite suite : suites) {
+            deduplicate(suite, firstSelectedBy, totals, perSuite);
+        }
+        if (totals[1] > 0) {
+            LoggerUtil.info(String.format("Suite dedup: %d selected executions, %d eliminated, %d run%n  %s",
+                    totals[0], totals[1], totals[0] - totals[1], String.join("\n  ", perSuite)));
+        }
+        return totals[1];
+    }
+
+    private void deduplicate(XmlSuite suite, Map<String, String> firstSelectedBy, int[] totals, List<String> perSuite) {
+        // TestNG runs child suites before the suite that includes them
+        suite.getChildSuites().forEach(child -> deduplicate(child, firstSelectedBy, totals, perSuite));
+        int selectedBefore = totals[0];
+        int eliminatedBefore = totals[1];
+        for (XmlTest test : new ArrayList<>(suite.getTests())) {
+            if (!test.getIncludedGroups().isEmpty() || !test.getExcludedGroups().isEmpty()
+                    || !test.getXmlPackages().isEmpty()) {
+                continue;
+            }
+            String parameters = new TreeMap<>(test.getAllParameters()).toString();
+            for (XmlClass xmlClass : new ArrayList<>(test.getXmlClasses())) {
+                if (!deduplicate(suite.getName(), xmlClass, parameters, firstSelectedBy, totals)) {
+                    test.getXmlClasses().remove(xmlClass);
+                }
+            }
+            if (test.getXmlClasses().isEmpty()) {
+                suite.getTests().remove(test);
+            }
+        }
+        if (totals[0] > selectedBefore) {
+            perSuite.add(String.format("%s: %d of %d selected methods already run by an earlier suite",
+                    suite.getName(), totals[1] - eliminatedBefore, totals[0] - selectedBefore));
+        }
+    }
+
+    /**
+     * @return false when every method the class entry selected has already run, so the entry must go
+     */
+    private boolean deduplicate(String suiteName, XmlClass xmlClass, String parameters,
+                                Map<String, String> firstSelectedBy, int[] totals) {
+        List<XmlInclude> includes = xmlClass.getIncludedMethods();
+        if (includes.isEmpty()) {
+            Set<String> selected = testMethodNames(xmlClass);
+            selected.removeAll(xmlClass.getExcludedMethods());
+            List<String> excluded = new ArrayList<>(xmlClass.getExcludedMethods());
+            boolean anyLeft = selected.isEmpty();
+            for (String name : selected) {
+                if (isRepeat(suiteName, xmlClass.getName() + "." + name, parameters, firstSelectedBy, totals)) {
+                    excluded.add(name);
+                } else {
+                    anyLeft = true;
+                }
+            }
+            xmlClass.setExcludedMethods(excluded);
+            return anyLeft;
+        }
+        List<XmlInclude> kept = new ArrayList<>();
+        for (XmlInclude include : includes) {
+            boolean literal = LITERAL_NAME.matcher(include.getName()).matches()
+                    && include.getInvocationNumbers().isEmpty();
+            if (!literal || !isRepeat(suiteName, xmlClass.getName() + "." + include.getName(), parameters,
+                    firstSelectedBy, totals)) {
+                kept.add(include);
+            }
+        }
+        xmlClass.setIncludedMethods(kept);
+        // An entry left without includes would select the whole class
+        return !kept.isEmpty();
+    }
+
+    private boolean isRepeat(String suiteName, String method, String parameters,
+                             Map<String, String> firstSelectedBy, int[] totals) {
+        totals[0]++;
+        creditedSuites.computeIfAbsent(method, key -> new LinkedHashSet<>()).add(suiteName);
+        if (firstSelectedBy.putIfAbsent(method + parameters, suiteName) == null) {
+            return false;
+        }
+        totals[1]++;
+        return true;
+    }
+
+    /**
+     * Names of the test methods TestNG would run for a class entry without includes
+     */
+    private static Set<String> testMethodNames(XmlClass xmlClass) {
+        Set<String> names = new LinkedHashSet<>();
+        Class<?> testClass;
+        try {
+            testClass = xmlClass.getSupportClass();
+        } catch (RuntimeException e) {
+            return names; // TestNG reports the missing class itself; leave the entry untouched
+        }
+        boolean classLevelTest = testClass.isAnnotationPresent(Test.class);
+        for (Method method : testClass.getMethods()) {
+            if (method.getDeclaringClass() == Object.class || Modifier.isStatic(method.getModifiers())) {
+                continue;
+            }
+            boolean configuration = Arrays.stream(method.getAnnotations())
+                    .anyMatch(annotation -> annotation.annotationType().getSimpleName().matches("(Before|After)\\w+"));
+            if (method.isAnnotationPresent(Test.class) || classLevelTest && !configuration) {
+                names.add(method.getName());
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,13 @@
+package com.framework.utils;
+
+/**
+ * Set as the failure of a test (or @BeforeMethod) that TestDeadlineWatchdog aborted for running past deadline.seconds
+ */
+public class TestDeadlineExceededException extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public TestDeadlineExceededException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,153 @@
+package com.framework.utils;
+
+import io.qameta.allure.Allure;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Gives each test deadline.seconds of wall-clock time (default 120, 0 = off) for its @BeforeMethod methods
+ * and its body together. A watchdog thread aborts a test still running at its deadline:
+ *   - the diagnostic snapshot is taken: what was running, for how long, and the test thread's stack,
+ *     which shows the WebDriver command or wait it is stuck in
+ *   - the browser driver of the test's session and the browser it started are killed
+ *     (DriverManager.abortSession), which closes the HTTP connection a hung command is waiting on
+ *   - the test thread is interrupted, which ends sleeps in waits
+ * The test then fails with a TestDeadlineExceededException carrying the snapshot (also attached to
+ * Allure), and the worker's next test starts a new browser. A screenshot cannot be taken of a hung session.
+ *
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs.
+ */
+public class TestDeadlineWatchdog implements IInvokedMethodListener, ITestListener {
+
+    private static final ScheduledExecutorService watchdog = Executors.newSingleThreadScheduledExecutor(task -> {
+        Thread thread = new Thread(task, "test-deadline-watchdog");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * One test's time on its thread, from its first @BeforeMethod to its result
+     */
+    private static final class Deadline {
+        private final Thread thread = Thread.currentThread();
+        private final long startNanos = System.nanoTime();
+        private final long budgetMillis;
+        private ScheduledFuture<?> expiry;
+        private String running; // Method being invoked, null between invocations
+        private String snapshot; // Set when aborted
+        private boolean closed;
+
+        private Deadline(long budgetMillis) {
+            this.budgetMillis = budgetMillis;
+        }
+    }
+
+    private final ThreadLocal<Deadline> deadline = new ThreadLocal<>();
+    private final Long budgetMillis;
+
+    public TestDeadlineWatchdog() {
+        this.budgetMillis = null;
+    }
+
+    TestDeadlineWatchdog(long budgetMillis) {
+        this.budgetMillis = budgetMillis;
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        ITestNGMethod invoked = method.getTestMethod();
+        long budgetMillis = this.budgetMillis != null ? this.budgetMillis
+                : Long.parseLong(ConfigReader.getProperty("deadline.seconds", "120")) * 1000;
+        if (budgetMillis <= 0 || !(method.isTestMethod() || invoked.isBeforeMethodConfiguration())) {
+            return;
+        }
+        Deadline current = deadline.get();
+        if (current == null) {
+            Deadline started = new Deadline(budgetMillis);
+            started.expiry = watchdog.schedule(() -> expire(started), budgetMillis, TimeUnit.MILLISECONDS);
+            deadline.set(started);
+            current = started;
+        }
+        synchronized (current) {
+            current.running = invoked.getQualifiedName();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Deadline current = deadline.get();
+        if (current == null || current.running == null) {
+            return;
+        }
+        synchronized (current) {
+            current.running = null;
+            if (current.snapshot != null) {
+                Thread.interrupted(); // The watchdog's interrupt must not reach the next invocation
+                testResult.setStatus(ITestResult.FAILURE);
+                testResult.setThrowable(new TestDeadlineExceededException(current.snapshot, testResult.getThrowable()));
+                Allure.addAttachment("Test Deadline Exceeded", "text/plain", current.snapshot);
+            }
+        }
+        if (method.isTestMethod() || !testResult.isSuccess()) {
+            close(); // After a failed @BeforeMethod the test body does not run
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        close();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        close();
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        close(); // Includes tests whose body never ran
+    }
+
+    private void close() {
+        Deadline current = deadline.get();
+        if (current != null) {
+            synchronized (current) {
+                current.closed = true;
+                current.expiry.cancel(false);
+            }
+            deadline.remove();
+        }
+    }
+
+    private static void expire(Deadline expired) {
+        synchronized (expired) {
+            if (expired.closed) {
+                return;
+            }
+            if (expired.running == null) {
+                // Between two invocations of the test: check again once the next one started or the test ended
+                expired.expiry = watchdog.schedule(() -> expire(expired), 1, TimeUnit.SECONDS);
+                return;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - expired.startNanos);
+            expired.snapshot = String.format("%s exceeded its deadline of %.1f s after %.1f s; thread %s was at:%n%s",
+                    expired.running, expired.budgetMillis / 1000.0, elapsedMillis / 1000.0,
+                    expired.thread.getName(), Arrays.stream(expired.thread.getStackTrace())
+                            .map(frame -> "\tat " + frame)
+                            .collect(Collectors.joining(System.lineSeparator())));
+            LoggerUtil.error("Aborting " + expired.snapshot);
+            DriverManager.abortSession(expired.thread);
+            expired.thread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.framework.utils;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-test duration history kept in a small properties file (qualified method name = milliseconds).
+ *
+ * Durations recorded during a run are summed per method (data-provider invocations add up) and blended
+ * into the stored value on save with an exponentially weighted average, so one slow run does not
+ * reorder the whole suite.
+ */
+public class TestDurationHistory {
+
+    private static final double WEIGHT_OF_LATEST_RUN = 0.5;
+    private static TestDurationHistory configured;
+
+    private final Path file;
+    private final Map<String, Long> stored = new ConcurrentHashMap<>();
+    private final Map<String, Long> currentRun = new ConcurrentHashMap<>();
+
+    private TestDurationHistory(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * @return the history at scheduler.historyFile, loaded once per JVM and shared by the scheduling listeners
+     */
+    public static synchronized TestDurationHistory getConfigured() {
+        if (configured == null) {
+            configured = load(Path.of(ConfigReader.getProperty("scheduler.historyFile", ".test-history/durations.properties")));
+        }
+        return configured;
+    }
+
+    /**
+     * @return the history stored in file, or an empty history when the file does not exist or is unreadable
+     */
+    public static TestDurationHistory load(Path file) {
+        TestDurationHistory history = new TestDurationHistory(file);
+        history.stored.putAll(PropertiesStore.load(file, "test duration history", Long::parseLong));
+        return history;
+    }
+
+    /**
+     * @param method qualified method name, e.g. com.framework.tests.saucedemo.LoginTest.testValidLogin
+     * @return the expected duration in milliseconds, empty when the method has never been recorded
+     */
+    public OptionalLong getExpectedMillis(String method) {
+        Long millis = stored.get(method);
+        return millis == null ? OptionalLong.empty() : OptionalLong.of(millis);
+    }
+
+    public int size() {
+        return stored.size();
+    }
+
+    /**
+     * Add one invocation's duration to this run's total for method
+     */
+    public void record(String method, long millis) {
+        currentRun.merge(method, Math.max(0, millis), Long::sum);
+    }
+
+    /**
+     * Blend this run's durations into the stored history and write it to the history file
+     */
+    public synchronized void save() {
+        if (currentRun.isEmpty()) {
+            return;
+        }
+        currentRun.forEach((method, millis) -> stored.merge(method, millis,
+                (old, latest) -> Math.round(WEIGHT_OF_LATEST_RUN * latest + (1 - WEIGHT_OF_LATEST_RUN) * old)));
+        currentRun.clear();
+
+        PropertiesStore.save(file, "test duration history",
+                "Test durations in milliseconds, maintained by LongestFirstScheduler", stored, String::valueOf);
+    }
+}
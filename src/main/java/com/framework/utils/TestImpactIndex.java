@@ -0,0 +1,223 @@
+package com.framework.utils;
+
+import com.framework.utils.ClassFileReferences.MethodBody;
+import com.framework.utils.ClassFileReferences.MethodRef;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Static call graph of the compiled project classes (target/classes and target/test-classes), used to
+ * find which source classes a test method can reach.
+ *
+ * A test reaches everything its own code, its class's constructor and the TestNG configuration and data
+ * provider methods of its class and superclasses call, transitively. A call is followed into the method
+ * with that name in the owner and in the owner's superclasses and interfaces. Dynamic dispatch is
+ * covered by treating every method of a class that reached code creates with "new" as reachable, so
+ * lambdas, callbacks and overrides are over-approximated rather than missed. Code only called from
+ * outside the project (TestNG listeners, PageFactory, Selenium callbacks on classes nobody creates) is
+ * not reachable; TestImpactSelector runs everything when such a class changes.
+ */
+public final class TestImpactIndex {
+
+    private final Map<String, ClassFileReferences> classes;
+    private final Map<String, Path> classFiles;
+
+    private TestImpactIndex(Map<String, ClassFileReferences> classes, Map<String, Path> classFiles) {
+        this.classes = classes;
+        this.classFiles = classFiles;
+    }
+
+    /**
+     * @return the directories the given classes were loaded from, skipping those loaded from jars
+     */
+    public static List<Path> classDirectories(Collection<Class<?>> loadedClasses) {
+        Set<Path> directories = new LinkedHashSet<>();
+        for (Class<?> type : loadedClasses) {
+            CodeSource source = type.getProtectionDomain().getCodeSource();
+            try {
+                Path location = source == null ? null : Path.of(source.getLocation().toURI());
+                if (location != null && Files.isDirectory(location)) {
+                    directories.add(location);
+                }
+            } catch (URISyntaxException e) {
+                // Not a file location: nothing to scan there
+            }
+        }
+        return new ArrayList<>(directories);
+    }
+
+    /**
+     * Read every .class file under the given directories
+     */
+    public static TestImpactIndex scan(Collection<Path> classDirectories) {
+        Map<String, ClassFileReferences> classes = new HashMap<>();
+        Map<String, Path> classFiles = new HashMap<>();
+        for (Path directory : classDirectories) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.filter(path -> path.toString().endsWith(".class")).toList()) {
+                    try (InputStream in = Files.newInputStream(file)) {
+                        ClassFileReferences references = ClassFileReferences.read(in);
+                        classes.put(references.getName(), references);
+                        classFiles.put(references.getName(), file);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot read compiled classes under " + directory, e);
+            }
+        }
+        return new TestImpactIndex(classes, classFiles);
+    }
+
+    /**
+     * @return true when the source class (top-level name) was compiled into one of the scanned directories
+     */
+    public boolean contains(String sourceClass) {
+        return classes.keySet().stream().anyMatch(name -> ClassFileReferences.topLevel(name).equals(sourceClass));
+    }
+
+    /**
+     * @return the class files compiled from the source class (the top-level class and its nested
+     * and anonymous classes), sorted by class name
+     */
+    public List<Path> classFiles(String sourceClass) {
+        return classFiles.entrySet().stream()
+                .filter(entry -> ClassFileReferences.topLevel(entry.getKey()).equals(sourceClass))
+                .sorted(Map.Entry.comparingByKey())
+                .map(Map.Entry::getValue)
+                .toList();
+    }
+
+    /**
+     * Project source classes (top-level names, sorted) the test method can reach
+     */
+    public Set<String> reachedClasses(Class<?> testClass, String testMethod) {
+        List<MethodRef> roots = new ArrayList<>();
+        roots.add(new MethodRef(testClass.getName(), testMethod));
+        roots.add(new MethodRef(testClass.getName(), "<init>"));
+        roots.add(new MethodRef(testClass.getName(), "<clinit>"));
+        List<Class<?>> configured = new ArrayList<>();
+        for (Class<?> type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            configured.add(type);
+        }
+        for (Method method : testClass.getMethods()) {
+            Test test = method.getAnnotation(Test.class);
+            if (method.getName().equals(testMethod) && test != null && test.dataProviderClass() != Object.class) {
+                configured.add(test.dataProviderClass());
+            }
+        }
+        for (Class<?> type : configured) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (isConfiguration(method)) {
+                    roots.add(new MethodRef(type.getName(), method.getName()));
+                }
+            }
+        }
+        return reach(roots);
+    }
+
+    /**
+     * Project source classes reachable from any method of the given classes, for classes instantiated
+     * outside the project such as TestNG listeners
+     */
+    public Set<String> reachedFromClasses(Collection<String> classNames) {
+        List<MethodRef> roots = new ArrayList<>();
+        for (String name : classNames) {
+            ClassFileReferences references = classes.get(name);
+            if (references != null) {
+                references.getMethods().keySet().forEach(method -> roots.add(new MethodRef(name, method)));
+            }
+        }
+        return reach(roots);
+    }
+
+    Set<String> reach(List<MethodRef> roots) {
+        Set<MethodRef> visited = new HashSet<>();
+        Set<String> instantiated = new HashSet<>();
+        Set<String> reached = new TreeSet<>();
+        Deque<MethodRef> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            MethodRef call = queue.poll();
+            if (!visited.add(call)) {
+                continue;
+            }
+            for (String owner : definingClasses(call)) {
+                MethodBody body = classes.get(owner).getMethods().get(call.name());
+                reached.add(ClassFileReferences.topLevel(owner));
+                queue.addAll(body.calls());
+                for (String used : body.classes()) {
+                    if (classes.containsKey(used)) {
+                        reached.add(ClassFileReferences.topLevel(used));
+                        queue.add(new MethodRef(used, "<clinit>"));
+                    }
+                }
+                for (String created : body.instantiated()) {
+                    if (classes.containsKey(created) && instantiated.add(created)) {
+                        classes.get(created).getMethods().keySet()
+                                .forEach(method -> queue.add(new MethodRef(created, method)));
+                    }
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Project classes that define the called method: the owner or the nearest supertypes declaring it
+     */
+    private List<String> definingClasses(MethodRef call) {
+        List<String> owners = new ArrayList<>();
+        Deque<String> types = new ArrayDeque<>(List.of(call.owner()));
+        Set<String> seen = new HashSet<>();
+        while (!types.isEmpty()) {
+            String type = types.poll();
+            ClassFileReferences references = classes.get(type);
+            if (references == null || !seen.add(type)) {
+                continue;
+            }
+            if (references.getMethods().containsKey(call.name())) {
+                owners.add(type);
+                continue;
+            }
+            if (references.getSuperName() != null) {
+                types.add(references.getSuperName());
+            }
+            types.addAll(references.getInterfaces());
+        }
+        return owners;
+    }
+
+    /**
+     * TestNG calls these itself: @Before*, @After*, @DataProvider and @Factory methods
+     */
+    private static boolean isConfiguration(Method method) {
+        for (Annotation annotation : method.getAnnotations()) {
+            Class<? extends Annotation> type = annotation.annotationType();
+            if (type.getPackageName().equals("org.testng.annotations")
+                    && type.getSimpleName().matches("(Before|After)\\w+|DataProvider|Factory")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,245 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.xml.XmlSuite;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Runs only the tests affected by a change, when impact.since (a git ref to diff the working tree against)
+ * or impact.changed (comma-separated file paths, or @file with one path per line) is set.
+ *
+ * Changed Java sources are mapped to classes and a test is kept when TestImpactIndex finds it can reach one
+ * of them, together with the methods it dependsOn. Everything runs when pom.xml or a non-Java file under
+ * src/ (configuration, suite XMLs) changed, when one of impact.runAllOn changed (BasePage, Wait and
+ * DriverManager by default), or when a changed class is reached by a registered TestNG listener or a
+ * load-time woven aspect, whose callers are not in the project's bytecode. Other files (README,
+ * .gitignore...) are ignored. The class directories are scanned once per JVM, and the index of every test
+ * method and the classes it reaches is written to impact.indexFile when a suite finishes. Declared in the
+ * &lt;listeners&gt; of the UI suite XMLs.
+ */
+public class TestImpactSelector implements IMethodInterceptor, ISuiteListener {
+
+    private static final Pattern JAVA_SOURCE = Pattern.compile("(?:^|.*/)src/(?:main|test)/java/(.+)\\.java");
+    private static final Pattern ASPECT = Pattern.compile("<aspect\\s+name=\"([^\"]+)\"");
+    private static final String DEFAULT_RUN_ALL_ON =
+            "com.framework.pages.BasePage,com.framework.utils.Wait,com.framework.utils.DriverManager";
+
+    /**
+     * Reached classes of the methods of every suite and test of the run, written out as one index
+     */
+    private static final Map<String, Set<String>> INDEX = new TreeMap<>();
+    private static boolean indexChanged;
+
+    /**
+     * Scanned bytecode by class directories, shared by the &lt;test&gt;s of the run
+     */
+    private static final Map<List<Path>, TestImpactIndex> SCANNED = new ConcurrentHashMap<>();
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        List<String> changedFiles = changedFiles();
+        if (changedFiles == null || methods.isEmpty()) {
+            return methods;
+        }
+        List<Class<?>> classes = new ArrayList<>(List.of(TestImpactSelector.class));
+        methods.forEach(instance -> classes.add(instance.getMethod().getRealClass()));
+        TestImpactIndex index = SCANNED.computeIfAbsent(TestImpactIndex.classDirectories(classes),
+                TestImpactIndex::scan);
+        return select(methods, changedFiles, index, entryPoints(context.getSuite().getXmlSuite()));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        writeIndex();
+    }
+
+    List<IMethodInstance> select(List<IMethodInstance> methods, List<String> changedFiles, TestImpactIndex index,
+                                 List<String> entryPoints) {
+        Map<String, Set<String>> reachedByMethod = new TreeMap<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            reachedByMethod.computeIfAbsent(method.getQualifiedName(),
+                    key -> index.reachedClasses(method.getRealClass(), method.getMethodName()));
+        }
+        addToIndex(reachedByMethod);
+
+        Set<String> changedClasses = new TreeSet<>();
+        for (String file : changedFiles) {
+            Matcher source = JAVA_SOURCE.matcher(file.replace('\\', '/'));
+            if (source.matches()) {
+                changedClasses.add(source.group(1).replace('/', '.'));
+            } else if (file.endsWith("pom.xml") || file.replace('\\', '/').matches("(?:^|.*/)src/.*")) {
+                return runAll(methods, file + " changed");
+            }
+        }
+        List<String> runAllOn = Arrays.asList(ConfigReader.getProperty("impact.runAllOn", DEFAULT_RUN_ALL_ON)
+                .split("\\s*,\\s*"));
+        Set<String> reachedByEntryPoints = index.reachedFromClasses(entryPoints);
+        for (String changed : changedClasses) {
+            if (runAllOn.contains(changed)) {
+                return runAll(methods, changed + " changed");
+            }
+            if (reachedByEntryPoints.contains(changed)) {
+                return runAll(methods, changed + " changed and is used by a TestNG listener or aspect");
+            }
+        }
+
+        Set<ITestNGMethod> selected = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (IMethodInstance instance : methods) {
+            if (!Collections.disjoint(reachedByMethod.get(instance.getMethod().getQualifiedName()), changedClasses)) {
+                selected.add(instance.getMethod());
+            }
+        }
+        // A selected test still needs the tests it dependsOn
+        boolean added = true;
+        while (added) {
+            added = false;
+            for (IMethodInstance upstream : methods) {
+                if (!selected.contains(upstream.getMethod()) && selected.stream()
+                        .anyMatch(dependent -> LongestFirstScheduler.dependsOn(dependent, upstream.getMethod()))) {
+                    added |= selected.add(upstream.getMethod());
+                }
+            }
+        }
+        List<IMethodInstance> affected = methods.stream()
+                .filter(instance -> selected.contains(instance.getMethod()))
+                .toList();
+        LoggerUtil.info(String.format("Test impact: %d changed classes %s, running %d of %d methods",
+                changedClasses.size(), changedClasses, affected.size(), methods.size()));
+        return affected;
+    }
+
+    private static List<IMethodInstance> runAll(List<IMethodInstance> methods, String reason) {
+        LoggerUtil.info("Test impact: running all " + methods.size() + " methods, " + reason);
+        return methods;
+    }
+
+    /**
+     * @return the changed files from impact.changed or impact.since, or null when impact analysis is off
+     */
+    private static List<String> changedFiles() {
+        String changed = ConfigReader.getProperty("impact.changed");
+        if (changed != null && !changed.isBlank()) {
+            if (changed.startsWith("@")) {
+                try {
+                    return Files.readAllLines(Path.of(changed.substring(1))).stream()
+                            .map(String::trim).filter(line -> !line.isEmpty()).toList();
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot read changed files from " + changed.substring(1), e);
+                }
+            }
+            return Arrays.stream(changed.split(",")).map(String::trim).filter(file -> !file.isEmpty()).toList();
+        }
+        String since = ConfigReader.getProperty("impact.since");
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        Set<String> files = new LinkedHashSet<>(git("diff", "--name-only", since));
+        files.addAll(git("ls-files", "--others", "--exclude-standard")); // New files are not in the diff
+        return new ArrayList<>(files);
+    }
+
+    private static List<String> git(String... arguments) {
+        List<String> command = new ArrayList<>(List.of("git"));
+        command.addAll(List.of(arguments));
+        try {
+            Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            List<String> lines;
+            try (BufferedReader output = new BufferedReader(
+                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                lines = output.lines().toList();
+            }
+            if (process.waitFor() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " failed: " + String.join("\n", lines));
+            }
+            return lines;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot run " + String.join(" ", command), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted running " + String.join(" ", command), e);
+        }
+    }
+
+    /**
+     * Classes the project's bytecode never calls: the TestNG listeners declared by suite and its parent
+     * suites, and aspects woven at load time from META-INF/aop.xml
+     */
+    private static List<String> entryPoints(XmlSuite suite) {
+        List<String> classes = new ArrayList<>();
+        for (XmlSuite declaring = suite; declaring != null; declaring = declaring.getParentSuite()) {
+            classes.addAll(declaring.getListeners());
+        }
+        try {
+            for (URL aop : Collections.list(TestImpactSelector.class.getClassLoader()
+                    .getResources("META-INF/aop.xml"))) {
+                Matcher aspect = ASPECT.matcher(read(aop));
+                while (aspect.find()) {
+                    classes.add(aspect.group(1));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read aspect registrations", e);
+        }
+        return classes;
+    }
+
+    private static String read(URL resource) throws IOException {
+        try (InputStream in = resource.openStream()) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static synchronized void addToIndex(Map<String, Set<String>> reachedByMethod) {
+        indexChanged |= !INDEX.entrySet().containsAll(reachedByMethod.entrySet());
+        INDEX.putAll(reachedByMethod);
+    }
+
+    /**
+     * Write the methods indexed so far to impact.indexFile, unless nothing was added since the last write
+     */
+    static synchronized void writeIndex() {
+        if (!indexChanged) {
+            return;
+        }
+        indexChanged = false;
+        Path file = Path.of(ConfigReader.getProperty("impact.indexFile", "target/test-impact-index.properties"));
+        List<String> lines = new ArrayList<>();
+        INDEX.forEach((method, reached) -> lines.add(method + "=" + String.join(",", reached)));
+        try {
+            if (file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            Files.write(file, lines);
+        } catch (IOException e) {
+            LoggerUtil.warn("Could not write test impact index " + file + ": " + e.getMessage());
+        }
+    }
+}
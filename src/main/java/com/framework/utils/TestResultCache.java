@@ -0,0 +1,93 @@
+package com.framework.utils;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last passing run of each test method kept in a small properties file
+ * (qualified method name = input key and the time it passed).
+ *
+ * The input key is a hash of everything the result depends on (see ResultCacheListener); an entry only
+ * answers for the same key and for maxAgeMillis after the run that actually executed the test, so the
+ * sites under test cannot drift unnoticed for longer than that.
+ */
+public class TestResultCache {
+
+    private record Entry(String key, long passedAtMillis) {
+    }
+
+    private static TestResultCache configured;
+
+    private final Path file;
+    private final long maxAgeMillis;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean changed;
+
+    private TestResultCache(Path file, long maxAgeMillis) {
+        this.file = file;
+        this.maxAgeMillis = maxAgeMillis;
+    }
+
+    /**
+     * @return the cache at cache.file, loaded once per JVM
+     */
+    public static synchronized TestResultCache getConfigured() {
+        if (configured == null) {
+            configured = load(Path.of(ConfigReader.getProperty("cache.file", ".test-history/result-cache.properties")),
+                    Long.parseLong(ConfigReader.getProperty("cache.maxAgeHours", "24")) * 3_600_000L);
+        }
+        return configured;
+    }
+
+    /**
+     * @return the cache stored in file, or an empty cache when the file does not exist or is unreadable
+     */
+    public static TestResultCache load(Path file, long maxAgeMillis) {
+        TestResultCache cache = new TestResultCache(file, maxAgeMillis);
+        cache.entries.putAll(PropertiesStore.load(file, "test result cache", value -> {
+            String[] keyAndTime = value.split(" ");
+            return new Entry(keyAndTime[0], Long.parseLong(keyAndTime[1]));
+        }));
+        return cache;
+    }
+
+    /**
+     * @return true when method passed with the same input key less than maxAgeMillis before nowMillis
+     */
+    public boolean hasPassed(String method, String key, long nowMillis) {
+        Entry entry = entries.get(method);
+        return entry != null && entry.key().equals(key) && nowMillis - entry.passedAtMillis() < maxAgeMillis;
+    }
+
+    /**
+     * Remember that every invocation of method passed with this input key
+     */
+    public void recordPassed(String method, String key, long nowMillis) {
+        entries.put(method, new Entry(key, nowMillis));
+        changed = true;
+    }
+
+    /**
+     * Drop the method's entry after a failed or skipped invocation
+     */
+    public void forget(String method) {
+        if (entries.remove(method) != null) {
+            changed = true;
+        }
+    }
+
+    /**
+     * Write the cache to its file if anything was recorded or forgotten since it was loaded
+     */
+    public synchronized void save() {
+        if (!changed) {
+            return;
+        }
+        changed = false;
+
+        PropertiesStore.save(file, "test result cache",
+                "Input key and time of the last passing run, maintained by ResultCacheListener", entries,
+                entry -> entry.key() + " " + entry.passedAtMillis());
+    }
+}
@@ -0,0 +1,152 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.TreeMap;
+
+/**
+ * Keeps only this node's slice of the tests when shard.total > 1, so CI nodes started with
+ * -Dshard.index=0..total-1 run disjoint, balanced parts of the same testng.xml.
+ *
+ * Methods linked by dependsOnMethods/dependsOnGroups stay on one shard. Groups with a recorded duration
+ * (scheduler.historyFile) are bin-packed longest-first onto the least loaded shard; groups never recorded
+ * are placed by a hash of their name. The assignment depends only on the method list, the history and
+ * shard.total, so every node must use the same history file (e.g. restore it from a shared CI cache).
+ *
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs, so sharding needs a suite XML run; class mode
+ * (-Dtest=...) runs without it.
+ */
+public class TestShardFilter implements IMethodInterceptor {
+
+    private final TestDurationHistory history;
+
+    public TestShardFilter() {
+        this(null);
+    }
+
+    TestShardFilter(TestDurationHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        int total = Integer.parseInt(ConfigReader.getProperty("shard.total", "1"));
+        if (total <= 1) {
+            return methods;
+        }
+        String index = ConfigReader.getProperty("shard.index");
+        if (index == null) {
+            throw new IllegalArgumentException("shard.total=" + total + " needs -Dshard.index=0.." + (total - 1));
+        }
+        return select(methods, Integer.parseInt(index), total);
+    }
+
+    List<IMethodInstance> select(List<IMethodInstance> methods, int index, int total) {
+        if (index < 0 || index >= total) {
+            throw new IllegalArgumentException("shard.index must be between 0 and " + (total - 1) + ", was " + index);
+        }
+        Map<ITestNGMethod, Integer> shardOf = assign(methods, total);
+        List<IMethodInstance> selected = methods.stream()
+                .filter(instance -> shardOf.get(instance.getMethod()) == index)
+                .toList();
+        LoggerUtil.info(String.format("Shard %d/%d: running %d of %d methods", index + 1, total,
+                selected.size(), methods.size()));
+        return selected;
+    }
+
+    private Map<ITestNGMethod, Integer> assign(List<IMethodInstance> methods, int total) {
+        // Group key = smallest member name, so the grouping and its order are the same on every node
+        Map<String, List<ITestNGMethod>> groups = new TreeMap<>();
+        dependencyGroups(methods).forEach(group -> groups.put(group.stream()
+                .map(ITestNGMethod::getQualifiedName)
+                .min(Comparator.naturalOrder())
+                .orElseThrow(), group));
+
+        long mean = Math.round(methods.stream()
+                .map(instance -> history().getExpectedMillis(instance.getMethod().getQualifiedName()))
+                .filter(OptionalLong::isPresent)
+                .mapToLong(OptionalLong::getAsLong)
+                .average()
+                .orElse(1));
+        long[] load = new long[total];
+        Map<ITestNGMethod, Integer> shardOf = new IdentityHashMap<>();
+        Map<String, Long> recorded = new TreeMap<>();
+
+        groups.forEach((name, group) -> {
+            List<OptionalLong> durations = group.stream()
+                    .map(method -> history().getExpectedMillis(method.getQualifiedName()))
+                    .toList();
+            if (durations.stream().noneMatch(OptionalLong::isPresent)) {
+                int shard = Math.floorMod(name.hashCode(), total);
+                load[shard] += mean * group.size();
+                group.forEach(method -> shardOf.put(method, shard));
+            } else {
+                recorded.put(name, durations.stream().mapToLong(duration -> duration.orElse(mean)).sum());
+            }
+        });
+
+        recorded.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .forEach(entry -> {
+                    int shard = 0;
+                    for (int candidate = 1; candidate < total; candidate++) {
+                        if (load[candidate] < load[shard]) {
+                            shard = candidate;
+                        }
+                    }
+                    load[shard] += entry.getValue();
+                    int chosen = shard;
+                    groups.get(entry.getKey()).forEach(method -> shardOf.put(method, chosen));
+                });
+        return shardOf;
+    }
+
+    /**
+     * Connected components of the dependsOnMethods/dependsOnGroups relation
+     */
+    private static List<List<ITestNGMethod>> dependencyGroups(List<IMethodInstance> methods) {
+        List<ITestNGMethod> all = new ArrayList<>();
+        methods.forEach(instance -> {
+            if (all.stream().noneMatch(method -> method == instance.getMethod())) {
+                all.add(instance.getMethod());
+            }
+        });
+        int[] parent = new int[all.size()];
+        Arrays.setAll(parent, i -> i);
+        for (int i = 0; i < all.size(); i++) {
+            for (int j = 0; j < all.size(); j++) {
+                if (LongestFirstScheduler.dependsOn(all.get(i), all.get(j))) {
+                    parent[root(parent, i)] = root(parent, j);
+                }
+            }
+        }
+        Map<Integer, List<ITestNGMethod>> components = new TreeMap<>();
+        for (int i = 0; i < all.size(); i++) {
+            components.computeIfAbsent(root(parent, i), key -> new ArrayList<>()).add(all.get(i));
+        }
+        return new ArrayList<>(components.values());
+    }
+
+    private static int root(int[] parent, int node) {
+        while (parent[node] != node) {
+            parent[node] = parent[parent[node]];
+            node = parent[node];
+        }
+        return node;
+    }
+
+    private TestDurationHistory history() {
+        return history != null ? history : TestDurationHistory.getConfigured();
+    }
+}
@@ -0,0 +1,19 @@
+package com.framework.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test class (and, being inherited, all its subclasses) as opening the configured base URLs.
+ *
+ * OriginPreflight only checks the origins before a suite that contains such a class, so suites of unit
+ * tests against fake browsers run without network access.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface UsesBaseUrls {
+}
@@ -9,6 +9,7 @@ import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
+import java.util.function.Function;
 
 public class Wait {
     private WebDriverWait wait;
@@ -115,6 +116,13 @@ public class Wait {
         );
     }
 
+    /**
+     * Wait until a custom condition returns true (uses the default explicit wait timeout)
+     */
+    public void waitForCondition(Function<WebDriver, Boolean> condition) {
+        wait.until(condition);
+    }
+
     /**
      * Wait for a specific number of windows to be available
      * Useful for window switching scenarios
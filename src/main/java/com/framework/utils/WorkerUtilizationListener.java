@@ -0,0 +1,95 @@
+package com.framework.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Reports how busy each worker thread was during a suite: time spent in test and configuration methods
+ * versus the suite's wall time. Works for every parallel.mode, so the idle time of parallel="classes"
+ * can be compared with parallel.mode=queue on the same suite.
+ * Declared in the &lt;listeners&gt; of the UI suite XMLs.
+ */
+public class WorkerUtilizationListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final ThreadLocal<Long> invocationStart = new ThreadLocal<>();
+
+    private final Map<ISuite, Long> suiteStart = new ConcurrentHashMap<>();
+    private final Map<ISuite, Map<String, Worker>> workers = new ConcurrentHashMap<>();
+
+    /**
+     * Busy time and test count of one worker thread
+     */
+    record Worker(LongAdder busyNanos, AtomicInteger tests) {
+        Worker() {
+            this(new LongAdder(), new AtomicInteger());
+        }
+    }
+
+    @Override
+    public void onStart(ISuite suite) {
+        suiteStart.put(suite, System.nanoTime());
+    }
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        invocationStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        Long start = invocationStart.get();
+        invocationStart.remove();
+        if (start == null) {
+            return;
+        }
+        Worker worker = workers
+                .computeIfAbsent(testResult.getTestContext().getSuite(), key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(Thread.currentThread().getName(), key -> new Worker());
+        worker.busyNanos().add(System.nanoTime() - start);
+        if (method.isTestMethod()) {
+            worker.tests().incrementAndGet();
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Long start = suiteStart.remove(suite);
+        Map<String, Worker> suiteWorkers = workers.remove(suite);
+        if (start == null || suiteWorkers == null) {
+            return;
+        }
+        LoggerUtil.info("Worker utilization for " + suite.getName() + ":\n"
+                + format(suiteWorkers, System.nanoTime() - start, DriverManager.getSessionsStarted()));
+    }
+
+    static String format(Map<String, Worker> workers, long wallNanos, int browsersStarted) {
+        StringBuilder report = new StringBuilder();
+        long totalBusy = 0;
+        int totalTests = 0;
+        for (Map.Entry<String, Worker> entry : new TreeMap<>(workers).entrySet()) {
+            long busy = entry.getValue().busyNanos().sum();
+            totalBusy += busy;
+            totalTests += entry.getValue().tests().get();
+            report.append(String.format("  %-28s %4d tests  busy %7.1fs  idle %7.1fs  %5.1f%%%n",
+                    entry.getKey(), entry.getValue().tests().get(), busy / 1e9,
+                    Math.max(0, wallNanos - busy) / 1e9, percent(busy, wallNanos)));
+        }
+        report.append(String.format("  %d workers, %d tests, wall %.1fs, overall utilization %.1f%%, %d browsers started so far",
+                workers.size(), totalTests, wallNanos / 1e9,
+                percent(totalBusy, wallNanos * Math.max(1, workers.size())), browsersStarted));
+        return report.toString();
+    }
+
+    private static double percent(long part, long whole) {
+        return whole <= 0 ? 0 : Math.min(100.0, 100.0 * part / whole);
+    }
+}
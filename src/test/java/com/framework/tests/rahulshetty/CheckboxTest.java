@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeMethod;
@@ -22,6 +23,7 @@ public class CheckboxTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Checkbox Display")
     @Test(priority = 1, groups = {"smoke", "functional", "regression"}, description = "Verify all checkboxes are displayed and enabled")
+    @ReadOnlyPage
     public void testCheckboxesVisibilityAndState() {
         // Verify all checkboxes are displayed
         softAssert.assertTrue(homePage.isCheckbox1Displayed(), 
@@ -46,6 +48,7 @@ public class CheckboxTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Checkbox Display")
     @Test(priority = 2, groups = {"smoke", "functional", "regression"}, description = "Verify default unchecked state of all checkboxes")
+    @ReadOnlyPage
     public void testDefaultUncheckedState() {
         // Verify all checkboxes are unchecked by default
         softAssert.assertFalse(homePage.isCheckbox1Selected(), 
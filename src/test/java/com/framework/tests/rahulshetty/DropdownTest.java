@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyConstants;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
@@ -27,6 +28,7 @@ public class DropdownTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Dropdown Display")
     @Test(priority = 1, groups = {"smoke", "functional", "regression"}, description = "Verify dropdown is displayed")
+    @ReadOnlyPage
     public void testDropdownDisplayed() {
         boolean isDisplayed = homePage.isDropdownDisplayed();
         softAssert.assertTrue(isDisplayed, 
@@ -81,6 +83,7 @@ public class DropdownTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Story("Dropdown Display")
     @Test(priority = 5, groups = {"functional", "regression"}, description = "Verify all dropdown options are available")
+    @ReadOnlyPage
     public void testDropdownHasAllOptions() {
         List<String> options = homePage.getAllDropdownOptions();
         
@@ -133,6 +136,7 @@ public class DropdownTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Dropdown Display")
     @Test(priority = 8, groups = {"smoke", "functional"}, description = "Verify default 'Select' option is present")
+    @ReadOnlyPage
     public void testDefaultSelectOption() {
         List<String> options = homePage.getAllDropdownOptions();
         
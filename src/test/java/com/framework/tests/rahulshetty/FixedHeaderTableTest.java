@@ -2,6 +2,7 @@ package com.framework.tests.rahulshetty;
 
 import com.framework.pages.rahulshetty.HomePage;
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyConstants;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
@@ -18,6 +19,7 @@ import java.util.Map;
  */
 @Epic("Web Table Automation")
 @Feature("Fixed Header Table")
+@ReadOnlyPage
 public class FixedHeaderTableTest extends BaseTest {
 
     private HomePage homePage;
@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyConstants;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
@@ -24,6 +25,7 @@ public class HideShowTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Button Display")
     @Test(priority = 1, groups = {"smoke", "functional", "regression"}, description = "Verify Hide and Show buttons are displayed and enabled")
+    @ReadOnlyPage
     public void testHideShowButtonsVisibilityAndState() {
         softAssert.assertTrue(homePage.isHideButtonDisplayed(), 
             RahulShettyMessages.HIDE_BUTTON_DISPLAYED);
@@ -41,6 +43,7 @@ public class HideShowTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Story("Element Visibility")
     @Test(priority = 2, groups = {"smoke", "functional", "regression"}, description = "Verify text box is displayed by default")
+    @ReadOnlyPage
     public void testTextBoxDisplayedByDefault() {
         softAssert.assertTrue(homePage.isDisplayedTextBoxVisible(), 
             RahulShettyMessages.TEXTBOX_VISIBLE_BY_DEFAULT);
@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyConstants;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
@@ -27,6 +28,7 @@ public class IFrameTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that iFrame is displayed on the page")
     @Story("IFrame Display")
+    @ReadOnlyPage
     public void testIFrameDisplayed() {
         softAssert.assertTrue(homePage.isIFrameDisplayed(), 
                 RahulShettyMessages.IFRAME_DISPLAYED);
@@ -37,6 +39,7 @@ public class IFrameTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that iFrame is enabled")
     @Story("IFrame Display")
+    @ReadOnlyPage
     public void testIFrameEnabled() {
         softAssert.assertTrue(homePage.isIFrameEnabled(), 
                 RahulShettyMessages.IFRAME_ENABLED);
@@ -47,6 +50,7 @@ public class IFrameTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify iFrame has correct ID attribute")
     @Story("IFrame Attributes")
+    @ReadOnlyPage
     public void testIFrameHasCorrectId() {
         String iframeId = homePage.getIFrameId();
         softAssert.assertEquals(iframeId, RahulShettyConstants.IFRAME_ID, 
@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyConstants;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
@@ -25,6 +26,7 @@ public class MouseHoverTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Mouse Hover button is displayed on the page")
     @Story("Mouse Hover Button Display")
+    @ReadOnlyPage
     public void testMouseHoverButtonDisplayed() {
         softAssert.assertTrue(homePage.isMouseHoverButtonDisplayed(), 
                 RahulShettyMessages.MOUSE_HOVER_BUTTON_DISPLAYED);
@@ -35,6 +37,7 @@ public class MouseHoverTest extends BaseTest {
     @Severity(SeverityLevel.CRITICAL)
     @Description("Verify that Mouse Hover button is enabled")
     @Story("Mouse Hover Button Display")
+    @ReadOnlyPage
     public void testMouseHoverButtonEnabled() {
         softAssert.assertTrue(homePage.isMouseHoverButtonEnabled(), 
                 RahulShettyMessages.MOUSE_HOVER_BUTTON_ENABLED);
@@ -238,6 +241,7 @@ public class MouseHoverTest extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     @Description("Verify Mouse Hover button has correct text")
     @Story("Mouse Hover Button Display")
+    @ReadOnlyPage
     public void testMouseHoverButtonText() {
         String buttonText = homePage.getMouseHoverButtonText();
         softAssert.assertEquals(buttonText, RahulShettyConstants.MOUSE_HOVER_BUTTON_TEXT, 
@@ -1,6 +1,7 @@
 package com.framework.tests.rahulshetty;
 
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeMethod;
@@ -23,6 +24,7 @@ public class RadioButtonTest extends BaseTest {
     @Description("Validate that all three radio buttons are displayed and enabled")
     @Severity(SeverityLevel.CRITICAL)
     @Story("Radio Button Display")
+    @ReadOnlyPage
     public void testRadioButtonsVisibilityAndState() {
         // Best Practice 1: Verify all radio buttons are displayed
         softAssert.assertTrue(homePage.isRadio1Displayed(), RahulShettyMessages.RADIO1_DISPLAYED);
@@ -134,6 +136,7 @@ public class RadioButtonTest extends BaseTest {
     @Description("Validate the default state of radio buttons and ensure maximum one is selected")
     @Severity(SeverityLevel.NORMAL)
     @Story("Radio Button Display")
+    @ReadOnlyPage
     public void testDefaultRadioButtonState() {
         // Best Practice 6: Verify initial/default state
         // Check if any radio button is selected by default
@@ -2,6 +2,7 @@ package com.framework.tests.rahulshetty;
 
 import com.framework.pages.rahulshetty.WebTablePage;
 import com.framework.utils.BaseTest;
+import com.framework.utils.ReadOnlyPage;
 import com.framework.utils.rahulshetty.RahulShettyMessages;
 import io.qameta.allure.*;
 import org.openqa.selenium.By;
@@ -19,6 +20,7 @@ import java.util.Map;
  */
 @Epic("Web Table Automation")
 @Feature("Table Validation")
+@ReadOnlyPage
 public class WebTableTest extends BaseTest {
 
     private WebTablePage webTablePage;
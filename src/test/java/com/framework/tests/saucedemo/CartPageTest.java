@@ -2,11 +2,13 @@ package com.framework.tests.saucedemo;
 
 import com.framework.pages.saucedemo.CartPage;
 import com.framework.pages.saucedemo.InventoryPage;
-import com.framework.pages.saucedemo.LoginPage;
 import com.framework.utils.BaseTest;
-import com.framework.utils.ConfigReader;
+import com.framework.utils.Precondition;
+import com.framework.utils.LoggerUtil;
 import com.framework.utils.saucedemo.SauceDemoConstants;
+import com.framework.utils.saucedemo.SauceDemoFixtures;
 import com.framework.utils.saucedemo.SauceDemoMessages;
+import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
 import io.qameta.allure.Feature;
@@ -30,21 +32,19 @@ import static org.testng.Assert.*;
  */
 @Epic("SauceDemo E-Commerce")
 @Feature("Shopping Cart")
+@Precondition("loggedIn(standard_user)")
 public class CartPageTest extends BaseTest {
 
-    private LoginPage loginPage;
     private InventoryPage inventoryPage;
     private CartPage cartPage;
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        loginPage = new LoginPage(driver);
         inventoryPage = new InventoryPage(driver);
         cartPage = new CartPage(driver);
         
-        // Login and navigate to inventory page
-        driver.get(ConfigReader.getBaseUrl(2));
-        loginPage.login(SauceDemoConstants.STANDARD_USER, SauceDemoConstants.PASSWORD);
+        // Logged in on the inventory page, empty cart
+        reachPrecondition(SauceDemoFixtures.GRAPH);
     }
 
     // ==================== CART PAGE DISPLAY TESTS ====================
@@ -426,4 +426,50 @@ public class CartPageTest extends BaseTest {
         assertEquals(cartPage.getCartItemCount(), initialCount, 
                     "Cart items should persist after navigation");
     }
+
+    // ==================== BATCHED CART MUTATION BENCHMARK ====================
+
+    @Test(priority = 24, groups = {"benchmark"})
+    @Story("Cart Performance")
+    @Description("Compare time to fill and clear the cart one click at a time versus batched in one script call")
+    @Severity(SeverityLevel.MINOR)
+    public void testBatchedCartFillAndClearBenchmark() {
+        int productCount = inventoryPage.getProductCount();
+        
+        // One WebDriver click per item
+        long start = System.nanoTime();
+        for (int i = 0; i < productCount; i++) {
+            inventoryPage.addFirstItemToCart();
+        }
+        long sequentialFillMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(inventoryPage.getCartBadgeCount(), String.valueOf(productCount));
+        
+        // Both clears start from the full cart on the cart page
+        inventoryPage.clickShoppingCart();
+        start = System.nanoTime();
+        for (int i = 0; i < productCount; i++) {
+            cartPage.removeItemByIndex(0);
+        }
+        long sequentialClearMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(cartPage.isCartEmpty(), SauceDemoMessages.CART_EMPTY_AFTER_REMOVING_ALL);
+        
+        // Batched: one script call plus a single wait for the final badge count
+        cartPage.clickContinueShopping();
+        start = System.nanoTime();
+        inventoryPage.addAllItemsToCart();
+        long batchedFillMs = (System.nanoTime() - start) / 1_000_000;
+        assertEquals(inventoryPage.getCartBadgeCount(), String.valueOf(productCount));
+        
+        inventoryPage.clickShoppingCart();
+        start = System.nanoTime();
+        cartPage.removeAllItems();
+        long batchedClearMs = (System.nanoTime() - start) / 1_000_000;
+        assertTrue(cartPage.isCartEmpty(), SauceDemoMessages.CART_EMPTY_AFTER_REMOVING_ALL);
+        
+        String report = String.format(
+            "Cart of %d items - fill: sequential %d ms, batched %d ms | clear: sequential %d ms, batched %d ms",
+            productCount, sequentialFillMs, batchedFillMs, sequentialClearMs, batchedClearMs);
+        LoggerUtil.info(report);
+        Allure.addAttachment("Cart mutation benchmark", report);
+    }
 }
@@ -1,14 +1,10 @@
 package com.framework.tests.saucedemo;
 
-import com.framework.pages.saucedemo.CartPage;
 import com.framework.pages.saucedemo.CheckoutCompletePage;
-import com.framework.pages.saucedemo.CheckoutOverviewPage;
-import com.framework.pages.saucedemo.CheckoutStepOnePage;
-import com.framework.pages.saucedemo.InventoryPage;
-import com.framework.pages.saucedemo.LoginPage;
 import com.framework.utils.BaseTest;
-import com.framework.utils.ConfigReader;
+import com.framework.utils.Precondition;
 import com.framework.utils.saucedemo.SauceDemoConstants;
+import com.framework.utils.saucedemo.SauceDemoFixtures;
 import com.framework.utils.saucedemo.SauceDemoMessages;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -30,45 +26,17 @@ import static org.testng.Assert.*;
  */
 @Epic("SauceDemo E-Commerce")
 @Feature("Order Confirmation")
+@Precondition("loggedIn(standard_user) > cartWith(sauce-labs-backpack, sauce-labs-bike-light, sauce-labs-bolt-t-shirt) > atCheckoutStep(3)")
 public class CheckoutCompletePageTest extends BaseTest {
 
-    private LoginPage loginPage;
-    private InventoryPage inventoryPage;
-    private CartPage cartPage;
-    private CheckoutStepOnePage checkoutStepOnePage;
-    private CheckoutOverviewPage checkoutOverviewPage;
     private CheckoutCompletePage checkoutCompletePage;
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        loginPage = new LoginPage(driver);
-        inventoryPage = new InventoryPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutStepOnePage = new CheckoutStepOnePage(driver);
-        checkoutOverviewPage = new CheckoutOverviewPage(driver);
         checkoutCompletePage = new CheckoutCompletePage(driver);
         
-        // Complete full checkout flow to reach confirmation page
-        driver.get(ConfigReader.getBaseUrl(2));
-        loginPage.login(SauceDemoConstants.STANDARD_USER, SauceDemoConstants.PASSWORD);
-        
-        // Add multiple items to cart
-        inventoryPage.addItemToCartByIndex(0); // Backpack
-        inventoryPage.addItemToCartByIndex(1); // Bike Light
-        inventoryPage.addItemToCartByIndex(3); // Bolt T-Shirt
-        
-        inventoryPage.clickShoppingCart();
-        cartPage.clickCheckout();
-        
-        // Fill checkout information
-        checkoutStepOnePage.completeCheckoutStepOne(
-            SauceDemoConstants.CHECKOUT_FIRST_NAME,
-            SauceDemoConstants.CHECKOUT_LAST_NAME,
-            SauceDemoConstants.CHECKOUT_POSTAL_CODE
-        );
-        
-        // Complete order
-        checkoutOverviewPage.clickFinish();
+        // Logged in after placing an order for three items, on the confirmation page
+        reachPrecondition(SauceDemoFixtures.GRAPH);
     }
 
     // ==================== PAGE DISPLAY TESTS ====================
@@ -1,13 +1,11 @@
 package com.framework.tests.saucedemo;
 
-import com.framework.pages.saucedemo.CartPage;
 import com.framework.pages.saucedemo.CheckoutOverviewPage;
-import com.framework.pages.saucedemo.CheckoutStepOnePage;
-import com.framework.pages.saucedemo.InventoryPage;
-import com.framework.pages.saucedemo.LoginPage;
+import com.framework.pages.saucedemo.OrderSummary;
 import com.framework.utils.BaseTest;
-import com.framework.utils.ConfigReader;
+import com.framework.utils.Precondition;
 import com.framework.utils.saucedemo.SauceDemoConstants;
+import com.framework.utils.saucedemo.SauceDemoFixtures;
 import com.framework.utils.saucedemo.SauceDemoMessages;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -31,40 +29,17 @@ import static org.testng.Assert.*;
  */
 @Epic("SauceDemo E-Commerce")
 @Feature("Checkout Overview")
+@Precondition("loggedIn(standard_user) > cartWith(sauce-labs-backpack, sauce-labs-bike-light, sauce-labs-bolt-t-shirt) > atCheckoutStep(2)")
 public class CheckoutOverviewPageTest extends BaseTest {
 
-    private LoginPage loginPage;
-    private InventoryPage inventoryPage;
-    private CartPage cartPage;
-    private CheckoutStepOnePage checkoutStepOnePage;
     private CheckoutOverviewPage checkoutOverviewPage;
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        loginPage = new LoginPage(driver);
-        inventoryPage = new InventoryPage(driver);
-        cartPage = new CartPage(driver);
-        checkoutStepOnePage = new CheckoutStepOnePage(driver);
         checkoutOverviewPage = new CheckoutOverviewPage(driver);
         
-        // Login, add items to cart, and navigate to checkout overview
-        driver.get(ConfigReader.getBaseUrl(2));
-        loginPage.login(SauceDemoConstants.STANDARD_USER, SauceDemoConstants.PASSWORD);
-        
-        // Add multiple items to cart
-        inventoryPage.addItemToCartByIndex(0); // Backpack
-        inventoryPage.addItemToCartByIndex(1); // Bike Light
-        inventoryPage.addItemToCartByIndex(3); // Bolt T-Shirt
-        
-        inventoryPage.clickShoppingCart();
-        cartPage.clickCheckout();
-        
-        // Fill checkout information and proceed to overview
-        checkoutStepOnePage.completeCheckoutStepOne(
-            SauceDemoConstants.CHECKOUT_FIRST_NAME,
-            SauceDemoConstants.CHECKOUT_LAST_NAME,
-            SauceDemoConstants.CHECKOUT_POSTAL_CODE
-        );
+        // Logged in with three items in the cart, on the checkout overview
+        reachPrecondition(SauceDemoFixtures.GRAPH);
     }
 
     // ==================== PAGE DISPLAY TESTS ====================
@@ -436,4 +411,18 @@ public class CheckoutOverviewPageTest extends BaseTest {
         // Total = Subtotal + Tax
         assertEquals(total, subtotal + tax, 0.01);
     }
+
+    @Test(priority = 28, groups = {"functional", "overview", "regression"})
+    @Story("Order Review")
+    @Description("Verify single-call order summary snapshot matches the displayed order in exact cents")
+    @Severity(SeverityLevel.NORMAL)
+    public void testOrderSummarySnapshot() {
+        OrderSummary summary = checkoutOverviewPage.getOrderSummary();
+        
+        assertEquals(summary.itemCount(), 3, "Order summary should contain all 3 items");
+        assertEquals(summary.items().stream().map(OrderSummary.Item::name).toList(),
+                    checkoutOverviewPage.getAllItemNames(), "Order summary item names should match the page");
+        assertTrue(summary.isSubtotalCorrect(), "Subtotal should equal the sum of item prices to the cent");
+        assertTrue(summary.isTotalCorrect(), "Total should equal subtotal plus tax to the cent");
+    }
 }
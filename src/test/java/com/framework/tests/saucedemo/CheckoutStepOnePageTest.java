@@ -1,12 +1,11 @@
 package com.framework.tests.saucedemo;
 
-import com.framework.pages.saucedemo.CartPage;
+import com.framework.pages.FillMode;
 import com.framework.pages.saucedemo.CheckoutStepOnePage;
-import com.framework.pages.saucedemo.InventoryPage;
-import com.framework.pages.saucedemo.LoginPage;
 import com.framework.utils.BaseTest;
-import com.framework.utils.ConfigReader;
+import com.framework.utils.Precondition;
 import com.framework.utils.saucedemo.SauceDemoConstants;
+import com.framework.utils.saucedemo.SauceDemoFixtures;
 import com.framework.utils.saucedemo.SauceDemoMessages;
 import io.qameta.allure.Description;
 import io.qameta.allure.Epic;
@@ -29,26 +28,17 @@ import static org.testng.Assert.*;
  */
 @Epic("SauceDemo E-Commerce")
 @Feature("Checkout Process")
+@Precondition("loggedIn(standard_user) > cartWith(sauce-labs-backpack) > atCheckoutStep(1)")
 public class CheckoutStepOnePageTest extends BaseTest {
 
-    private LoginPage loginPage;
-    private InventoryPage inventoryPage;
-    private CartPage cartPage;
     private CheckoutStepOnePage checkoutPage;
 
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        loginPage = new LoginPage(driver);
-        inventoryPage = new InventoryPage(driver);
-        cartPage = new CartPage(driver);
         checkoutPage = new CheckoutStepOnePage(driver);
         
-        // Login, add item to cart, and navigate to checkout
-        driver.get(ConfigReader.getBaseUrl(2));
-        loginPage.login(SauceDemoConstants.STANDARD_USER, SauceDemoConstants.PASSWORD);
-        inventoryPage.addItemToCartByIndex(0); // Add at least one item
-        inventoryPage.clickShoppingCart();
-        cartPage.clickCheckout();
+        // Logged in with one item in the cart, on checkout step one
+        reachPrecondition(SauceDemoFixtures.GRAPH);
     }
 
     // ==================== PAGE DISPLAY TESTS ====================
@@ -457,4 +447,23 @@ public class CheckoutStepOnePageTest extends BaseTest {
                   driver.getCurrentUrl().contains(SauceDemoConstants.CHECKOUT_STEP_TWO_URL),
                   "Form should either show error or accept spaces");
     }
+
+    @Test(priority = 32, groups = {"functional", "checkout", "regression"})
+    @Story("Form Input")
+    @Description("Verify fast fill sets all fields in one call and the app state accepts them")
+    @Severity(SeverityLevel.NORMAL)
+    public void testFastFillAllFields() {
+        checkoutPage.fillCheckoutInformation(
+            SauceDemoConstants.CHECKOUT_FIRST_NAME,
+            SauceDemoConstants.CHECKOUT_LAST_NAME,
+            SauceDemoConstants.CHECKOUT_POSTAL_CODE,
+            FillMode.FAST
+        );
+        assertTrue(checkoutPage.areAllFieldsFilled(), SauceDemoMessages.ALL_FIELDS_FILLED);
+
+        // React only keeps the values if onChange fired, otherwise validation reports a missing first name
+        checkoutPage.clickContinue();
+        assertTrue(driver.getCurrentUrl().contains(SauceDemoConstants.CHECKOUT_STEP_TWO_URL),
+                  "Fast-filled form should be accepted and navigate to step two");
+    }
 }
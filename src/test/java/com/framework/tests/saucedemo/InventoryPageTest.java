@@ -1,10 +1,12 @@
 package com.framework.tests.saucedemo;
 
 import com.framework.pages.saucedemo.InventoryPage;
-import com.framework.pages.saucedemo.LoginPage;
+import com.framework.pages.saucedemo.InventoryProduct;
 import com.framework.utils.BaseTest;
-import com.framework.utils.ConfigReader;
+import com.framework.utils.CommandBudget;
+import com.framework.utils.Precondition;
 import com.framework.utils.saucedemo.SauceDemoConstants;
+import com.framework.utils.saucedemo.SauceDemoFixtures;
 import com.framework.utils.saucedemo.SauceDemoMessages;
 import io.qameta.allure.*;
 import org.testng.annotations.BeforeMethod;
@@ -20,20 +22,18 @@ import java.util.List;
  */
 @Epic("SauceDemo E-Commerce")
 @Feature("Inventory and Products")
+@Precondition("loggedIn(standard_user)")
 public class InventoryPageTest extends BaseTest {
 
-    private LoginPage loginPage;
     private InventoryPage inventoryPage;
 
     @BeforeMethod(alwaysRun = true)
     public void setUpTest() {
         // Using baseUrl.2 - https://www.saucedemo.com
-        driver.get(ConfigReader.getBaseUrl(2));
-        loginPage = new LoginPage(driver);
         inventoryPage = new InventoryPage(driver);
         
-        // Login to reach inventory page for all tests
-        loginPage.login(SauceDemoConstants.STANDARD_USER, SauceDemoConstants.PASSWORD);
+        // Logged in on the inventory page for all tests
+        reachPrecondition(SauceDemoFixtures.GRAPH);
     }
 
     @Test(priority = 1, groups = {"smoke", "functional", "regression"}, description = "Verify inventory page displays correctly")
@@ -175,12 +175,11 @@ public class InventoryPageTest extends BaseTest {
     public void testSortByPriceLowToHigh() {
         inventoryPage.selectSortOption(SauceDemoConstants.SORT_PRICE_LOW_HIGH);
         
-        List<String> prices = inventoryPage.getAllProductPrices();
-        List<Double> priceValues = prices.stream()
-                .map(p -> Double.parseDouble(p.replace("$", "")))
+        List<Long> priceValues = inventoryPage.getProductCatalog().stream()
+                .map(InventoryProduct::priceCents)
                 .toList();
         
-        List<Double> sortedPrices = priceValues.stream().sorted().toList();
+        List<Long> sortedPrices = priceValues.stream().sorted().toList();
         
         softAssert.assertEquals(priceValues, sortedPrices, SauceDemoMessages.PRODUCTS_SORTED_PRICE_LOW_HIGH);
         softAssert.assertEquals(inventoryPage.getSelectedSortOption(), SauceDemoConstants.SORT_PRICE_LOW_HIGH,
@@ -196,12 +195,11 @@ public class InventoryPageTest extends BaseTest {
     public void testSortByPriceHighToLow() {
         inventoryPage.selectSortOption(SauceDemoConstants.SORT_PRICE_HIGH_LOW);
         
-        List<String> prices = inventoryPage.getAllProductPrices();
-        List<Double> priceValues = prices.stream()
-                .map(p -> Double.parseDouble(p.replace("$", "")))
+        List<Long> priceValues = inventoryPage.getProductCatalog().stream()
+                .map(InventoryProduct::priceCents)
                 .toList();
         
-        List<Double> sortedPrices = priceValues.stream()
+        List<Long> sortedPrices = priceValues.stream()
                 .sorted(Comparator.reverseOrder())
                 .toList();
         
@@ -558,4 +556,27 @@ public class InventoryPageTest extends BaseTest {
         
         softAssert.assertAll();
     }
+
+    @Test(priority = 30, groups = {"functional", "regression"}, description = "Verify product catalog snapshot matches the page")
+    @Description("Validate that the single-call product catalog agrees with the individual name and price getters")
+    @Severity(SeverityLevel.NORMAL)
+    @Story("Product Display")
+    @CommandBudget(8)
+    public void testProductCatalogSnapshot() {
+        inventoryPage.addFirstItemToCart();
+        List<InventoryProduct> catalog = inventoryPage.getProductCatalog();
+        
+        softAssert.assertEquals(catalog.size(), inventoryPage.getProductCount(),
+            "Catalog should contain one record per product card");
+        softAssert.assertEquals(catalog.stream().map(InventoryProduct::name).toList(),
+            inventoryPage.getAllProductNames(), "Catalog names should match the product names");
+        softAssert.assertTrue(catalog.stream().allMatch(product -> product.priceCents() > 0),
+            SauceDemoMessages.PRICE_SHOULD_BE_POSITIVE);
+        softAssert.assertTrue(catalog.stream().noneMatch(product -> product.imageSrc() == null || product.imageSrc().isEmpty()),
+            "Every product should have an image");
+        softAssert.assertEquals(catalog.stream().filter(InventoryProduct::isInCart).count(), 1L,
+            "Only the added product should show a Remove button");
+        
+        softAssert.assertAll();
+    }
 }
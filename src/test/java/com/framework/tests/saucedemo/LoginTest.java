@@ -27,7 +27,7 @@ public class LoginTest extends BaseTest {
     @BeforeMethod(alwaysRun = true)
     public void setUpTest() {
         // Using baseUrl.2 - https://www.saucedemo.com
-        driver.get(ConfigReader.getBaseUrl(2));
+        openPage(ConfigReader.getBaseUrl(2));
         loginPage = new LoginPage(driver);
         inventoryPage = new InventoryPage(driver);
     }
@@ -4,26 +4,73 @@ import com.framework.pages.rahulshetty.HomePage;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
+import org.testng.IConfigurable;
+import org.testng.IConfigureCallBack;
+import org.testng.IHookCallBack;
+import org.testng.IHookable;
+import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 import org.testng.asserts.SoftAssert;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 
-public class BaseTest {
-    protected WebDriver driver;
-    protected SoftAssert softAssert;
+/**
+ * Base class for all UI tests, safe for parallel="methods" and parallel="classes".
+ * TestNG shares one instance of a test class between the threads running its methods, so the fields
+ * below must not hold per-test state: driver forwards to the calling thread's session (DriverManager),
+ * softAssert collects failures per thread, and page objects built on driver work from any thread.
+ * A test that passed earlier with identical inputs is answered from the result cache without running
+ * it or its @BeforeMethod/@AfterMethod methods (see ResultCacheListener).
+ * The configured base URLs are checked before the first test of a suite (see OriginPreflight).
+ */
+@UsesBaseUrls
+public class BaseTest implements IHookable, IConfigurable {
+    protected final WebDriver driver = DriverManager.getThreadDriver();
+    protected final SoftAssert softAssert = new ThreadSafeSoftAssert();
     protected HomePage homePage;
 
+    @Override
+    public void run(IHookCallBack callBack, ITestResult testResult) {
+        if (!ResultCacheListener.answerFromCache(testResult)) {
+            callBack.runTestMethod(testResult);
+        }
+    }
+
+    @Override
+    public void run(IConfigureCallBack callBack, ITestResult testResult) {
+        if (!ResultCacheListener.answerConfigurationFromCache(testResult)) {
+            callBack.runConfigurationMethod(testResult);
+        }
+    }
+
     @BeforeMethod(alwaysRun = true)
     public void setUp() {
-        driver = DriverManager.getDriver();
-        softAssert = new SoftAssert();
+        DriverManager.getDriver(); // Start this thread's browser before the test's own setup
+        ((ThreadSafeSoftAssert) softAssert).reset();
+    }
+
+    /**
+     * Separate from setUp(), which test classes override without calling super
+     */
+    @BeforeMethod(alwaysRun = true)
+    public void prepareSharedPage(Method testMethod) {
+        ReadOnlyPageSession.beforeTest(testMethod);
+        FixtureGraph.beforeTest(testMethod);
     }
 
     @AfterMethod(alwaysRun = true)
-    public void tearDown() {
-        DriverManager.quitDriver();
+    public void tearDown(ITestResult result) {
+        // Both are asked so that each clears its per-test state
+        boolean keepReadOnlyPage = ReadOnlyPageSession.keepBrowser(result);
+        boolean keepPrecondition = FixtureGraph.keepBrowser(result);
+        if (result.wasRetried()) {
+            DriverManager.resetDriver(); // The retry starts from a blank page without a new browser start
+        } else if (!keepReadOnlyPage && !keepPrecondition) {
+            DriverManager.releaseDriver(); // Quit, or keep it warm for the worker's next test in queue mode
+        }
+        ((ThreadSafeSoftAssert) softAssert).reset();
     }
 
     /**
@@ -65,11 +112,39 @@ public class BaseTest {
      *                     3 = the-internet.herokuapp.com
      */
     protected void initializeHomePage(int baseUrlIndex) {
-        driver.get(ConfigReader.getBaseUrl(baseUrlIndex));
-        waitForPageToLoad();
+        String url = ConfigReader.getBaseUrl(baseUrlIndex);
+        // @ReadOnlyPage tests share the page the previous one left unchanged
+        if (!ReadOnlyPageSession.reuse(driver, url)) {
+            openPage(url);
+            ReadOnlyPageSession.loaded(driver, url);
+        }
         homePage = new HomePage(driver);
     }
     
+    /**
+     * Navigate to url and wait for it to load, skipping the navigation when the browser already
+     * shows that page untouched since it was loaded (see PageNavigator)
+     *
+     * @param url The page to open
+     */
+    protected void openPage(String url) {
+        PageNavigator.open(driver, url);
+    }
+    
+    /**
+     * Bring the browser into the state the running test's @Precondition describes, reusing what the
+     * previous test on this thread left behind where it still holds
+     *
+     * @param graph The fixture nodes the precondition path refers to
+     */
+    protected void reachPrecondition(FixtureGraph graph) {
+        String precondition = FixtureGraph.currentPrecondition();
+        if (precondition == null) {
+            throw new IllegalStateException(getClass().getSimpleName() + " has no @Precondition for this test");
+        }
+        graph.reach(driver, precondition);
+    }
+    
     /**
      * Initialize HomePage with default URL (index 1 - Rahul Shetty Academy)
      * Most tests use this URL
@@ -0,0 +1,94 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for CommandCounter against an in-memory fake driver (no browser needed)
+ * Single-threaded: the fakes are per-method instance state, so methods must not run in parallel
+ */
+@Test(singleThreaded = true)
+public class CommandCounterTest {
+
+    private CommandCounter counter;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        WebElement element = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebElement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getText" -> "text";
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        WebDriver.TargetLocator targetLocator = (WebDriver.TargetLocator) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.TargetLocator.class},
+            (proxy, method, args) -> null);
+        WebDriver fakeDriver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findElement" -> element;
+                case "switchTo" -> targetLocator;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        counter = new CommandCounter();
+        driver = counter.decorate(fakeDriver);
+    }
+
+    @Test
+    public void testRemoteCommandsAreCounted() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+        element.click();
+        ((JavascriptExecutor) driver).executeScript("return 1");
+
+        assertEquals(counter.getCount(), 4);
+        assertEquals(counter.getCountsByPageMethod().get("(test code)"), Long.valueOf(4));
+    }
+
+    @Test
+    public void testLocalCallsAreNotCounted() {
+        driver.switchTo();
+        driver.toString();
+
+        assertEquals(counter.getCount(), 0, "switchTo() only builds a local TargetLocator");
+    }
+
+    @Test
+    public void testWindowSwitchIsCounted() {
+        driver.switchTo().window("tab-1");
+
+        assertEquals(counter.getCount(), 1, "switchTo().window(handle) is a command, unlike manage().window()");
+    }
+
+    @Test
+    public void testUsageIsBrokenDownByCommandTypeAndReset() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+        element.getText();
+
+        CommandCounter.Usage usage = counter.getUsage();
+        assertEquals(usage.commands(), 3);
+        assertEquals(usage.byCommand().get("getText"), Long.valueOf(2));
+        assertEquals(usage.byCommand().get("findElement"), Long.valueOf(1));
+        assertTrue(usage.driverNanos() <= usage.elapsedNanos());
+        assertTrue(usage.format().startsWith("WebDriver commands: 3"));
+
+        counter.reset();
+        assertEquals(counter.getUsage().commands(), 0);
+        assertEquals(counter.getCount(), 3, "Budget deltas rely on getCount() never going back");
+    }
+}
@@ -0,0 +1,82 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.SkipException;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for DriverManager's session abort with a shell standing in for the browser driver and two
+ * sleeps for the browser it started (no browser needed)
+ */
+public class DriverManagerTest {
+
+    private final AtomicInteger quits = new AtomicInteger();
+    private Process fakeDriver;
+    private int port;
+
+    @BeforeMethod
+    public void startFakeDriver() throws IOException, InterruptedException {
+        if (!Files.isExecutable(Path.of("/bin/sh"))) {
+            throw new SkipException("Needs /bin/sh");
+        }
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        quits.set(0);
+        fakeDriver = new ProcessBuilder("/bin/sh", "-c", "sleep 300 & sleep 300 & wait", "fake-driver",
+                "--port=" + port).start();
+        for (int i = 0; i < 100 && fakeDriver.descendants().count() < 2; i++) {
+            Thread.sleep(50);
+        }
+        assertEquals(fakeDriver.descendants().count(), 2L, "Both browser processes started");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void killFakeDriver() {
+        if (fakeDriver != null) {
+            fakeDriver.descendants().forEach(ProcessHandle::destroyForcibly);
+            fakeDriver.destroyForcibly();
+        }
+    }
+
+    private WebDriver session() {
+        return (WebDriver) Proxy.newProxyInstance(DriverManagerTest.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class},
+            (proxy, invoked, args) -> invoked.getName().equals("quit") ? quits.incrementAndGet() : null);
+    }
+
+    @Test
+    public void testDriverProcessIsFoundByItsPort() {
+        assertEquals(DriverManager.driverProcess(port), fakeDriver.toHandle());
+        assertNull(DriverManager.driverProcess(port + 1));
+    }
+
+    @Test
+    public void testAbortedSessionLeavesNoDriverOrBrowserRunning() throws Exception {
+        Thread owner = new Thread(() -> { });
+        DriverManager.register(owner, session(), DriverManager.driverProcess(port));
+        List<ProcessHandle> browser = fakeDriver.descendants().toList();
+
+        DriverManager.abortSession(owner);
+
+        assertFalse(fakeDriver.onExit().get(5, TimeUnit.SECONDS).isAlive(), "Driver process killed");
+        for (ProcessHandle process : browser) {
+            assertFalse(process.onExit().get(5, TimeUnit.SECONDS).isAlive(), "Browser process killed: " + process);
+        }
+        DriverManager.quitAllDrivers();
+        assertEquals(quits.get(), 0, "The aborted session is no longer open");
+    }
+}
@@ -0,0 +1,77 @@
+package com.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.UnexpectedTagNameException;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for Dropdown result handling against a fake driver returning canned script results
+ * Single-threaded: the fakes are per-method instance state, so methods must not run in parallel
+ */
+@Test(singleThreaded = true)
+public class DropdownComponentTest {
+
+    private static final Map<String, Object> SORT_SELECT = Map.of(
+            "tag", "select",
+            "multiple", false,
+            "options", List.of(
+                    Map.of("index", 0L, "text", "Name (A to Z)", "value", "az", "selected", true, "disabled", false),
+                    Map.of("index", 1L, "text", "Price (low to high)", "value", "lohi", "selected", false, "disabled", false)
+            ));
+
+    private AtomicInteger scriptCalls;
+
+    private Dropdown dropdownReturning(Map<String, Object> result) {
+        scriptCalls = new AtomicInteger();
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("executeScript")) {
+                    scriptCalls.incrementAndGet();
+                    return result;
+                }
+                return null;
+            });
+        return new Dropdown(driver, null);
+    }
+
+    @Test
+    public void testOptionsAreReadInOneScriptCall() {
+        Dropdown dropdown = dropdownReturning(SORT_SELECT);
+
+        assertEquals(dropdown.getOptionTexts(), List.of("Name (A to Z)", "Price (low to high)"));
+        assertEquals(dropdown.getOptionValues(), List.of("az", "lohi"));
+        assertEquals(scriptCalls.get(), 2, "Without the read cache every read is one script call");
+        assertEquals(dropdown.getFirstSelectedOption().text(), "Name (A to Z)");
+        assertFalse(dropdown.isMultiple());
+    }
+
+    @Test(expectedExceptions = UnexpectedTagNameException.class)
+    public void testNonSelectElementIsRejected() {
+        dropdownReturning(Map.of("tag", "DIV")).getOptions();
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testMissingOptionIsReported() {
+        Map<String, Object> result = new HashMap<>(SORT_SELECT);
+        result.put("missing", true);
+        dropdownReturning(result).selectByVisibleText("Price (high to low)");
+    }
+
+    @Test(expectedExceptions = UnsupportedOperationException.class)
+    public void testDisabledOptionIsRejected() {
+        Map<String, Object> result = new HashMap<>(SORT_SELECT);
+        result.put("disabled", true);
+        dropdownReturning(result).selectByValue("lohi");
+    }
+}
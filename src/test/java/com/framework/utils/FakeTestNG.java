@@ -0,0 +1,82 @@
+package com.framework.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.IMethodInstance;
+import org.testng.ITestNGMethod;
+import org.testng.internal.ConstructorOrMethod;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * Fake TestNG methods shared by the listener unit tests, so that they need neither a suite nor a browser
+ */
+final class FakeTestNG {
+
+    private FakeTestNG() {}
+
+    /**
+     * Test method "Suite.name", with a priority and the qualified names of the methods it depends on
+     */
+    static IMethodInstance method(String name, int priority, String... dependsOnMethods) {
+        return instance(testMethod(FakeTestNG.class, "Suite." + name, priority, dependsOnMethods));
+    }
+
+    /**
+     * Test method name of testClass; getConstructorOrMethod() resolves the public method of that name
+     */
+    static IMethodInstance method(Class<?> testClass, String name, String... dependsOnMethods) {
+        return instance(testMethod(testClass, testClass.getName() + "." + name, 0, dependsOnMethods));
+    }
+
+    static ITestNGMethod testMethod(Class<?> testClass, String qualifiedName, int priority, String... dependsOnMethods) {
+        String name = qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        return (ITestNGMethod) Proxy.newProxyInstance(FakeTestNG.class.getClassLoader(),
+            new Class<?>[]{ITestNGMethod.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "getQualifiedName", "toString" -> qualifiedName;
+                case "getMethodName" -> name;
+                case "getPriority" -> priority;
+                case "getRealClass" -> testClass;
+                case "getConstructorOrMethod" -> new ConstructorOrMethod(testClass.getMethod(name));
+                case "getMethodsDependedUpon" -> dependsOnMethods;
+                case "getGroupsDependedUpon", "getGroups" -> new String[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> invoked.getReturnType() == boolean.class ? false : null;
+            });
+    }
+
+    static IMethodInstance instance(ITestNGMethod method) {
+        return (IMethodInstance) Proxy.newProxyInstance(FakeTestNG.class.getClassLoader(),
+            new Class<?>[]{IMethodInstance.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "getMethod" -> method;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+    }
+
+    /**
+     * Invocation of method as a test (not a configuration method)
+     */
+    static IInvokedMethod invocation(ITestNGMethod method) {
+        return (IInvokedMethod) Proxy.newProxyInstance(FakeTestNG.class.getClassLoader(),
+            new Class<?>[]{IInvokedMethod.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "getTestMethod" -> method;
+                case "isTestMethod" -> true;
+                default -> invoked.getReturnType() == boolean.class ? false : null;
+            });
+    }
+
+    /**
+     * @return the names of methods made by method(name, ...), in order
+     */
+    static List<String> names(List<IMethodInstance> methods) {
+        return methods.stream()
+                .map(instance -> instance.getMethod().getQualifiedName().substring("Suite.".length()))
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.framework.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.framework.utils.FakeTestNG.method;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for FixtureGraph and PreconditionOrderer with fake fixture nodes (no browser needed)
+ */
+public class FixtureGraphTest {
+
+    /**
+     * Node whose state is its name being in the shared "browser" set
+     */
+    private record FakeNode(String name, boolean injectable, Set<String> browser, List<String> log)
+            implements Fixture {
+
+        @Override
+        public boolean holds(WebDriver driver) {
+            return browser.contains(name);
+        }
+
+        @Override
+        public void build(WebDriver driver) {
+            log.add("build " + name);
+            browser.add(name);
+        }
+
+        @Override
+        public boolean inject(WebDriver driver) {
+            if (!injectable) {
+                return false;
+            }
+            log.add("inject " + name);
+            browser.add(name);
+            return true;
+        }
+
+        @Override
+        public void show(WebDriver driver) {
+            log.add("show " + name);
+        }
+    }
+
+    private static FixtureGraph graph(Set<String> browser, List<String> log, String... injectable) {
+        Set<String> injectableNodes = Set.of(injectable);
+        FixtureGraph graph = new FixtureGraph();
+        for (String name : List.of("login", "cart", "checkout")) {
+            graph.node(name, (parent, arguments) -> new FakeNode(name + arguments, injectableNodes.contains(name),
+                    browser, log));
+        }
+        return graph;
+    }
+
+    @Test
+    public void testDeepestHoldingNodeIsReused() {
+        Set<String> browser = new HashSet<>(List.of("login[alice]", "cart[backpack]"));
+        List<String> log = new ArrayList<>();
+
+        graph(browser, log).reach(null, "login(alice) > cart(backpack) > checkout(1)");
+
+        assertEquals(log, List.of("show cart[backpack]", "build checkout[1]"));
+    }
+
+    @Test
+    public void testStateIsInjectedWhenNothingHolds() {
+        Set<String> browser = new HashSet<>(List.of("login[bob]"));
+        List<String> log = new ArrayList<>();
+
+        graph(browser, log, "login", "cart").reach(null, "login(alice) > cart(backpack, bike-light) > checkout(2)");
+
+        assertEquals(log, List.of("inject cart[backpack, bike-light]", "show cart[backpack, bike-light]",
+                "build checkout[2]"));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testUnknownNodeIsRejected() {
+        graph(new HashSet<>(), new ArrayList<>()).reach(null, "login(alice) > wishlist(backpack)");
+    }
+
+    @Precondition("login(alice) > cart(backpack)")
+    public void inCart() {
+    }
+
+    @Precondition("login(alice)")
+    public void loggedIn() {
+    }
+
+    @Precondition("login(alice) > cart(backpack) > checkout(1)")
+    public void atCheckout() {
+    }
+
+    public void noPrecondition() {
+    }
+
+    @Test
+    public void testPathsRunNextToTheirExtensions() {
+        List<IMethodInstance> methods = List.of(method(FixtureGraphTest.class, "atCheckout"),
+                method(FixtureGraphTest.class, "inCart"), method(FixtureGraphTest.class, "noPrecondition"),
+                method(FixtureGraphTest.class, "loggedIn"));
+
+        List<String> ordered = new PreconditionOrderer().intercept(methods, null).stream()
+                .map(instance -> instance.getMethod().getMethodName()).toList();
+
+        assertEquals(ordered, List.of("noPrecondition", "loggedIn", "inCart", "atCheckout"));
+    }
+}
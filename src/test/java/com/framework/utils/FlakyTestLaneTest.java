@@ -0,0 +1,85 @@
+package com.framework.utils;
+
+import com.framework.utils.FlakinessHistory.Outcome;
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.framework.utils.FakeTestNG.method;
+import static com.framework.utils.FakeTestNG.names;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for FlakinessHistory and the lanes of FlakyTestLane with fake TestNG methods (no browser needed)
+ */
+public class FlakyTestLaneTest {
+
+    private static FlakinessHistory emptyHistory() throws IOException {
+        Path file = Files.createTempFile("flakiness", ".properties");
+        file.toFile().deleteOnExit();
+        Files.delete(file);
+        return FlakinessHistory.load(file);
+    }
+
+    private static void record(FlakinessHistory history, String method, Outcome... outcomes) {
+        for (Outcome outcome : outcomes) {
+            history.record("Suite." + method, outcome);
+        }
+    }
+
+    @Test
+    public void testScoreRisesWithRetriesAndDecaysWithCleanPasses() throws IOException {
+        FlakinessHistory history = emptyHistory();
+
+        record(history, "flaky", Outcome.PASSED, Outcome.PASSED_ON_RETRY, Outcome.PASSED_ON_RETRY);
+        double afterRetries = history.getStats("Suite.flaky").score();
+        record(history, "flaky", Outcome.PASSED, Outcome.PASSED);
+
+        assertEquals(afterRetries, 0.51, 0.001);
+        assertTrue(history.getStats("Suite.flaky").score() < afterRetries);
+        assertEquals(history.getStats("Suite.flaky"),
+                new FlakinessHistory.Stats(history.getStats("Suite.flaky").score(), 5, 2, 0));
+        assertEquals(history.getStats("Suite.never").runs(), 0);
+    }
+
+    @Test
+    public void testHardFailuresAreNotFlaky() throws IOException {
+        FlakinessHistory history = emptyHistory();
+
+        record(history, "broken", Outcome.FAILED, Outcome.FAILED, Outcome.FAILED);
+
+        assertEquals(history.getStats("Suite.broken").score(), 0.0);
+        assertEquals(history.getStats("Suite.broken").failed(), 3);
+        assertFalse(FlakyTestLane.isQuarantined(history.getStats("Suite.broken")));
+    }
+
+    @Test
+    public void testHistorySurvivesSave() throws IOException {
+        Path file = Files.createTempFile("flakiness", ".properties");
+        file.toFile().deleteOnExit();
+        FlakinessHistory history = FlakinessHistory.load(file);
+        record(history, "flaky", Outcome.PASSED_ON_RETRY, Outcome.PASSED);
+        history.save();
+
+        assertEquals(FlakinessHistory.load(file).getStats("Suite.flaky"), history.getStats("Suite.flaky"));
+    }
+
+    @Test
+    public void testChronicallyFlakyTestsRunOnlyInTheQuarantineLane() throws IOException {
+        FlakinessHistory history = emptyHistory();
+        record(history, "chronic", Outcome.PASSED_ON_RETRY, Outcome.PASSED_ON_RETRY, Outcome.PASSED_ON_RETRY);
+        record(history, "once", Outcome.PASSED, Outcome.PASSED, Outcome.PASSED_ON_RETRY);
+        record(history, "new", Outcome.PASSED_ON_RETRY);
+        FlakyTestLane lane = new FlakyTestLane(history);
+        List<IMethodInstance> methods = List.of(method("chronic", 0), method("once", 0), method("new", 0),
+                method("stable", 0));
+
+        assertEquals(names(lane.select(methods, FlakyTestLane.Lane.MAIN)), List.of("once", "new", "stable"));
+        assertEquals(names(lane.select(methods, FlakyTestLane.Lane.QUARANTINE)), List.of("chronic"));
+        assertEquals(names(lane.select(methods, FlakyTestLane.Lane.ALL)), List.of("chronic", "once", "new", "stable"));
+    }
+}
@@ -0,0 +1,105 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for FrameContextTracker against an in-memory fake driver (no browser needed)
+ * Single-threaded: the fakes are per-method instance state, so methods must not run in parallel
+ */
+@Test(singleThreaded = true)
+public class FrameContextTrackerTest {
+
+    private List<String> sentSwitches;
+    private FrameContextTracker tracker;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        sentSwitches = new ArrayList<>();
+        WebElement element = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebElement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        WebDriver[] fakeDriver = new WebDriver[1];
+        WebDriver.TargetLocator targetLocator = (WebDriver.TargetLocator) Proxy.newProxyInstance(
+            getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.TargetLocator.class},
+            (proxy, method, args) -> {
+                sentSwitches.add(method.getName());
+                return fakeDriver[0];
+            });
+        fakeDriver[0] = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "switchTo" -> targetLocator;
+                case "findElement" -> element;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        tracker = new FrameContextTracker();
+        driver = tracker.decorate(fakeDriver[0]);
+    }
+
+    @Test
+    public void testDefaultContentIsSkippedAtTopLevel() {
+        driver.switchTo().defaultContent();
+        driver.switchTo().defaultContent();
+
+        assertTrue(sentSwitches.isEmpty(), "New session already is in the top-level document");
+        assertEquals(tracker.getSkippedCount(), 2);
+    }
+
+    @Test
+    public void testFramePathIsTracked() {
+        driver.switchTo().frame("courses-iframe");
+        assertTrue(tracker.isInFrame(List.of("courses-iframe")));
+
+        driver.switchTo().defaultContent();
+        driver.switchTo().defaultContent();
+
+        assertEquals(sentSwitches, List.of("frame", "defaultContent"));
+        assertTrue(tracker.isInDefaultContent());
+    }
+
+    @Test
+    public void testMutationInsideFrameMakesContextUnknown() {
+        driver.switchTo().frame("courses-iframe");
+        driver.findElement(By.id("link")).click();
+
+        assertFalse(tracker.isInFrame(List.of("courses-iframe")));
+        driver.switchTo().defaultContent();
+        assertEquals(sentSwitches, List.of("frame", "defaultContent"), "Unknown context must be switched for real");
+    }
+
+    @Test
+    public void testNavigationReturnsToTopLevel() {
+        driver.switchTo().frame("courses-iframe");
+        driver.get("https://example.com");
+
+        assertTrue(tracker.isInDefaultContent());
+    }
+
+    @Test
+    public void testRepeatedWindowSwitchIsSkipped() {
+        driver.switchTo().window("tab-1");
+        driver.switchTo().window("tab-1");
+        driver.switchTo().frame(0);
+        driver.switchTo().window("tab-1");
+
+        assertEquals(sentSwitches, List.of("window", "frame", "window"));
+    }
+}
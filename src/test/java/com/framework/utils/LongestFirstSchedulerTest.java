@@ -0,0 +1,110 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+import org.testng.xml.XmlSuite;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.framework.utils.FakeTestNG.instance;
+import static com.framework.utils.FakeTestNG.method;
+import static com.framework.utils.FakeTestNG.names;
+import static com.framework.utils.FakeTestNG.testMethod;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for LongestFirstScheduler and TestDurationHistory with fake TestNG methods (no browser needed)
+ */
+public class LongestFirstSchedulerTest {
+
+    static TestDurationHistory historyWith(Map<String, Long> durations) throws IOException {
+        Path file = Files.createTempFile("durations", ".properties");
+        file.toFile().deleteOnExit();
+        StringBuilder content = new StringBuilder();
+        durations.forEach((name, millis) -> content.append("Suite.").append(name).append('=').append(millis).append('\n'));
+        Files.writeString(file, content);
+        return TestDurationHistory.load(file);
+    }
+
+    private static LongestFirstScheduler schedulerWith(Map<String, Long> durations) throws IOException {
+        return new LongestFirstScheduler(historyWith(durations));
+    }
+
+    @Test
+    public void testLongestMethodsAreScheduledFirst() throws IOException {
+        LongestFirstScheduler scheduler = schedulerWith(Map.of("quick", 100L, "slow", 9000L, "medium", 2000L));
+
+        List<IMethodInstance> ordered = scheduler.schedule(
+                List.of(method("quick", 0), method("slow", 0), method("medium", 0)), XmlSuite.ParallelMode.METHODS);
+
+        assertEquals(names(ordered), List.of("slow", "medium", "quick"));
+    }
+
+    @Test
+    public void testPriorityWinsOverDurationWithinAClass() throws IOException {
+        LongestFirstScheduler scheduler = schedulerWith(Map.of("first", 100L, "second", 9000L));
+
+        List<IMethodInstance> ordered = scheduler.schedule(
+                List.of(method("second", 2), method("first", 1)), XmlSuite.ParallelMode.METHODS);
+
+        assertEquals(names(ordered), List.of("first", "second"));
+    }
+
+    @Test
+    public void testPrioritiesOfOtherClassesDoNotHoldBackLongTests() throws IOException {
+        LongestFirstScheduler scheduler = schedulerWith(Map.of(
+                "shortFirst", 100L, "shortSecond", 100L, "quickFirst", 10L, "slowSecond", 5000L));
+        // Both classes number their priorities from 1
+        IMethodInstance quickFirst = instance(testMethod(String.class, "Suite.quickFirst", 1));
+        IMethodInstance slowSecond = instance(testMethod(String.class, "Suite.slowSecond", 2));
+
+        List<IMethodInstance> ordered = scheduler.schedule(List.of(
+                method("shortFirst", 1), method("shortSecond", 2), slowSecond, quickFirst),
+                XmlSuite.ParallelMode.METHODS);
+
+        assertEquals(names(ordered), List.of("quickFirst", "slowSecond", "shortFirst", "shortSecond"),
+                "The 5s priority-2 test follows only the priority-1 test of its own class");
+    }
+
+    @Test
+    public void testMethodUnblockingLongChainStartsEarly() throws IOException {
+        LongestFirstScheduler scheduler = schedulerWith(Map.of("login", 500L, "checkout", 8000L, "standalone", 5000L));
+
+        List<IMethodInstance> ordered = scheduler.schedule(List.of(
+                method("standalone", 0), method("checkout", 0, "Suite.login"), method("login", 0)),
+                XmlSuite.ParallelMode.METHODS);
+
+        assertEquals(names(ordered), List.of("login", "checkout", "standalone"),
+                "login gates 8.5s of work, so it goes before the 5s test");
+    }
+
+    @Test
+    public void testSerialRunKeepsDeclaredOrder() throws IOException {
+        LongestFirstScheduler scheduler = schedulerWith(Map.of("quick", 100L, "slow", 9000L));
+        List<IMethodInstance> methods = List.of(method("quick", 0), method("slow", 0));
+
+        assertSame(scheduler.schedule(methods, XmlSuite.ParallelMode.NONE), methods);
+    }
+
+    @Test
+    public void testHistoryBlendsRunsAndSurvivesReload() throws IOException {
+        Path file = Files.createTempFile("durations", ".properties");
+        file.toFile().deleteOnExit();
+        Files.delete(file);
+
+        TestDurationHistory history = TestDurationHistory.load(file);
+        history.record("Suite.withData", 300);
+        history.record("Suite.withData", 700);
+        history.save();
+        assertEquals(TestDurationHistory.load(file).getExpectedMillis("Suite.withData").getAsLong(), 1000,
+                "Data-provider invocations add up");
+
+        history.record("Suite.withData", 2000);
+        history.save();
+        assertEquals(TestDurationHistory.load(file).getExpectedMillis("Suite.withData").getAsLong(), 1500);
+    }
+}
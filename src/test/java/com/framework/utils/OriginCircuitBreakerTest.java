@@ -0,0 +1,138 @@
+package com.framework.utils;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for OriginCircuitBreaker with page loads that fail on demand and a clock the test moves (no browser needed)
+ */
+@Test(singleThreaded = true)
+public class OriginCircuitBreakerTest {
+
+    private static final String SITE = "https://rahulshettyacademy.com/AutomationPractice/";
+    private static final String OTHER_PAGE_OF_SITE = "https://rahulshettyacademy.com/seleniumPractise/";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeMethod
+    public void reset() {
+        clock.set(0);
+        loads.set(0);
+    }
+
+    private OriginCircuitBreaker breaker() {
+        return new OriginCircuitBreaker(2, 60_000, clock::get);
+    }
+
+    private void load(OriginCircuitBreaker breaker, String url) {
+        breaker.load(url, loads::incrementAndGet);
+    }
+
+    private void refused(OriginCircuitBreaker breaker, String url) {
+        expectThrows(WebDriverException.class, () -> breaker.load(url, () -> {
+            loads.incrementAndGet();
+            throw new WebDriverException("unknown error: net::ERR_CONNECTION_REFUSED\n  (Session info: chrome=119.0)");
+        }));
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndSkipsTheWholeOrigin() {
+        OriginCircuitBreaker breaker = breaker();
+        refused(breaker, SITE);
+        expectThrows(TimeoutException.class, () -> breaker.load(SITE, () -> {
+            throw new TimeoutException("timeout: Timed out receiving message from renderer: 30.000");
+        }));
+
+        SkipException skipped = expectThrows(SkipException.class, () -> load(breaker, OTHER_PAGE_OF_SITE));
+        assertTrue(skipped.getMessage().startsWith("https://rahulshettyacademy.com is unreachable: 2 consecutive"),
+                skipped.getMessage());
+        assertTrue(skipped.getMessage().contains("Timed out receiving message"), skipped.getMessage());
+        assertEquals(loads.get(), 1, "Skipped without loading");
+
+        load(breaker, "https://www.saucedemo.com/");
+        assertEquals(loads.get(), 2, "Other origins are not affected");
+    }
+
+    @Test
+    public void countsOnlyConsecutiveConnectionFailures() {
+        OriginCircuitBreaker breaker = breaker();
+        refused(breaker, SITE);
+        load(breaker, SITE);
+        refused(breaker, SITE);
+        for (int i = 0; i < 3; i++) {
+            expectThrows(NoSuchElementException.class, () -> breaker.load(SITE, () -> {
+                throw new NoSuchElementException("no such element");
+            }));
+        }
+        load(breaker, SITE);
+        assertEquals(loads.get(), 4);
+    }
+
+    @Test
+    public void halfOpenProbeClosesTheCircuitWhenTheSiteIsBack() {
+        OriginCircuitBreaker breaker = breaker();
+        refused(breaker, SITE);
+        refused(breaker, SITE);
+
+        clock.addAndGet(59_000);
+        assertTrue(expectThrows(SkipException.class, () -> load(breaker, SITE)).getMessage().endsWith("next probe in 1 s"));
+
+        clock.addAndGet(1_000);
+        refused(breaker, SITE); // The probe
+        expectThrows(SkipException.class, () -> load(breaker, SITE));
+
+        clock.addAndGet(60_000);
+        load(breaker, SITE); // The probe
+        load(breaker, SITE);
+        assertEquals(loads.get(), 5);
+    }
+
+    @Test
+    public void onlyOneProbeAtATime() {
+        OriginCircuitBreaker breaker = breaker();
+        refused(breaker, SITE);
+        refused(breaker, SITE);
+        clock.addAndGet(60_000);
+
+        breaker.load(SITE, () -> assertTrue(expectThrows(SkipException.class, () -> load(breaker, SITE))
+                .getMessage().endsWith("a probe page load is in progress")));
+        load(breaker, SITE);
+    }
+
+    @Test
+    public void tripOpensTheCircuitUntilAProbeSucceeds() {
+        OriginCircuitBreaker breaker = breaker();
+        breaker.trip(SITE, "pre-flight check failed with UnknownHostException");
+
+        assertEquals(expectThrows(SkipException.class, () -> load(breaker, SITE)).getMessage(),
+                "https://rahulshettyacademy.com is unreachable: pre-flight check failed with UnknownHostException;"
+                        + " next probe in 60 s");
+        clock.addAndGet(60_000);
+        load(breaker, SITE);
+        load(breaker, SITE);
+        assertEquals(loads.get(), 2);
+    }
+
+    @Test
+    public void ignoresUrlsWithoutOriginAndCanBeTurnedOff() {
+        assertNull(OriginCircuitBreaker.origin("about:blank"));
+        assertEquals(OriginCircuitBreaker.origin("http://localhost:8080/login?next=/"), "http://localhost:8080");
+
+        OriginCircuitBreaker off = new OriginCircuitBreaker(0, 60_000, clock::get);
+        for (int i = 0; i < 3; i++) {
+            refused(off, SITE);
+        }
+        load(off, SITE);
+        assertEquals(loads.get(), 4);
+    }
+}
@@ -0,0 +1,79 @@
+package com.framework.utils;
+
+import com.sun.net.httpserver.HttpServer;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for OriginPreflight's probes against a local HTTP server (no browser or internet needed)
+ */
+public class OriginPreflightTest {
+
+    private final AtomicInteger slowInFlight = new AtomicInteger();
+    private final AtomicInteger maxSlowInFlight = new AtomicInteger();
+    private HttpServer server;
+    private String site;
+
+    @BeforeClass
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/slow", exchange -> {
+            maxSlowInFlight.accumulateAndGet(slowInFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            slowInFlight.decrementAndGet();
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/bots-forbidden", exchange -> {
+            exchange.sendResponseHeaders(403, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        site = "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void probesAllUrlsConcurrentlyAndRecordsLatency() {
+        List<OriginPreflight.Probe> probes = OriginPreflight.probe(
+                List.of(site + "/slow", site + "/slow", site + "/bots-forbidden"), Duration.ofSeconds(5));
+
+        assertEquals(probes.stream().map(OriginPreflight.Probe::status).toList(), List.of(200, 200, 403));
+        assertTrue(probes.stream().allMatch(OriginPreflight.Probe::isReachable), "Any HTTP status is reachable");
+        assertTrue(probes.get(0).latencyMillis() >= 500, probes.get(0).toString());
+        assertEquals(maxSlowInFlight.get(), 2, "Both slow URLs requested at once");
+    }
+
+    @Test
+    public void refusedConnectionIsAHardFailure() throws IOException {
+        int closedPort;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+        OriginPreflight.Probe probe = OriginPreflight.probe(List.of("http://localhost:" + closedPort + "/"),
+                Duration.ofSeconds(5)).get(0);
+
+        assertFalse(probe.isReachable());
+        assertTrue(probe.failure().startsWith("ConnectException"), probe.failure());
+    }
+}
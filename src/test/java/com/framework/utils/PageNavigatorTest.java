@@ -0,0 +1,110 @@
+package com.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for PageNavigator against a fake browser whose page state the test sets (no browser needed)
+ */
+@Test(singleThreaded = true)
+public class PageNavigatorTest {
+
+    private static final String URL = "https://www.saucedemo.com/";
+
+    /**
+     * State of the fake browser's current page; get() starts a new document load
+     */
+    private static class FakeBrowser {
+        String load = "undefined";
+        String url = "about:blank";
+        String domHash = "100:42";
+        String dialogs = "0";
+        String scrollY = "0";
+        Set<String> windows = Set.of("main");
+        int navigations;
+
+        WebDriver driver() {
+            return (WebDriver) Proxy.newProxyInstance(PageNavigatorTest.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class, JavascriptExecutor.class, WebDriver.TargetLocator.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "get" -> {
+                        navigations++;
+                        load = "undefined";
+                        url = (String) args[0];
+                        scrollY = "0";
+                        yield null;
+                    }
+                    case "executeScript" -> script((String) args[0], (Object[]) args[1]);
+                    case "getWindowHandles" -> windows;
+                    case "switchTo", "defaultContent" -> proxy;
+                    default -> null;
+                });
+        }
+
+        private Object script(String script, Object[] args) {
+            if (script.equals("return document.readyState")) {
+                return "complete";
+            }
+            if (script.startsWith("window.scrollTo")) {
+                scrollY = "0";
+                return null;
+            }
+            if (args.length > 0 && args[0] != null) {
+                load = (String) args[0];
+            }
+            return List.of(load, url, "complete", domHash, dialogs, "0", scrollY);
+        }
+    }
+
+    @Test
+    public void testUntouchedPageIsNotLoadedAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = browser.driver();
+
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.LOADED);
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.SKIPPED);
+        assertEquals(browser.navigations, 1);
+
+        browser.scrollY = "640";
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.SCROLL_RESET);
+        assertEquals(browser.scrollY, "0");
+        assertEquals(browser.navigations, 1);
+    }
+
+    @Test
+    public void testChangedPageIsLoadedAgain() {
+        FakeBrowser browser = new FakeBrowser();
+        WebDriver driver = browser.driver();
+        PageNavigator.open(driver, URL);
+
+        browser.domHash = "101:7"; // e.g. a typed username
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.LOADED);
+
+        browser.dialogs = "1";
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.LOADED, "Dialog open");
+
+        browser.windows = Set.of("main", "popup");
+        assertEquals(PageNavigator.open(driver, URL), PageNavigator.Navigation.LOADED, "Extra window");
+        assertEquals(browser.navigations, 4);
+    }
+
+    @Test
+    public void testIdenticalPageFromAnotherLoadIsNotTrusted() {
+        FakeBrowser first = new FakeBrowser();
+        PageNavigator.open(first.driver(), URL);
+
+        // Same thread, new browser session showing the same markup
+        FakeBrowser second = new FakeBrowser();
+        second.url = URL;
+
+        assertEquals(PageNavigator.open(second.driver(), URL), PageNavigator.Navigation.LOADED);
+        assertEquals(second.navigations, 1);
+    }
+}
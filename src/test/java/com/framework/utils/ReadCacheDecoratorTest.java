@@ -0,0 +1,150 @@
+package com.framework.utils;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ReadCacheDecorator against an in-memory fake driver (no browser needed)
+ * Single-threaded: the fakes are per-method instance state, so methods must not run in parallel
+ */
+@Test(singleThreaded = true)
+public class ReadCacheDecoratorTest {
+
+    private AtomicInteger textReads;
+    private ReadCacheDecorator cache;
+    private WebDriver fakeDriver;
+    private WebDriver driver;
+
+    @BeforeMethod
+    public void setUp() {
+        textReads = new AtomicInteger();
+        WebElement element = (WebElement) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebElement.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "getText" -> "text-" + textReads.incrementAndGet();
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        fakeDriver = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findElement" -> element;
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        cache = new ReadCacheDecorator(10_000);
+        driver = cache.decorate(fakeDriver);
+    }
+
+    @Test
+    public void testRepeatedReadIsServedFromCache() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+
+        assertEquals(element.getText(), "text-1");
+        assertEquals(element.getText(), "text-1");
+        assertEquals(textReads.get(), 1, "Second read should not reach the driver");
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 1);
+        assertEquals(cache.getHitRate(), 0.5, 0.0001);
+    }
+
+    @Test
+    public void testClickFlushesCache() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+
+        element.click();
+
+        assertEquals(element.getText(), "text-2", "Read after click should reach the driver");
+        assertEquals(cache.getFlushCount(), 1);
+    }
+
+    @Test
+    public void testExecuteScriptFlushesCache() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+
+        ((JavascriptExecutor) driver).executeScript("return 1");
+
+        assertEquals(element.getText(), "text-2", "Read after executeScript should reach the driver");
+    }
+
+    @Test
+    public void testMutationCountIgnoresReads() {
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+        element.getTagName();
+        assertEquals(cache.getMutationCount(), 0, "Reads must not count as mutations");
+
+        element.click();
+        ((JavascriptExecutor) driver).executeScript("return 1");
+
+        assertEquals(cache.getMutationCount(), 2);
+    }
+
+    @Test
+    public void testExpiredEntryIsReadAgain()throws InterruptedException {
+        cache = new ReadCacheDecorator(20);
+        driver = cache.decorate(fakeDriver);
+        WebElement element = driver.findElement(By.id("subtotal"));
+        element.getText();
+
+        Thread.sleep(50);
+
+        assertEquals(element.getText(), "text-2", "Expired entry should be refreshed");
+    }
+
+    @Test
+    public void testReFoundElementIsServedFromCacheBehindCommandCounter() {
+        // Same chain as DriverManager.decorate: the counter is innermost and hands out a new proxy per find
+        driver = cache.decorate(new CommandCounter().decorate(fakeDriver));
+
+        WebElement first = driver.findElement(By.id("subtotal"));
+        WebElement again = driver.findElement(By.id("subtotal"));
+
+        assertEquals(first.getText(), "text-1");
+        assertEquals(again.getText(), "text-1", "Re-found element should be served from the cache");
+        assertEquals(textReads.get(), 1);
+        assertEquals(cache.getHitCount(), 1);
+        assertEquals(cache.getMissCount(), 1);
+    }
+
+    @Test
+    public void testDifferentElementsDoNotShareEntries() {
+        WebDriver twoElements = (WebDriver) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> switch (method.getName()) {
+                case "findElement" -> {
+                    String text = args[0].toString();
+                    yield Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{WebElement.class},
+                        (element, elementMethod, elementArgs) -> switch (elementMethod.getName()) {
+                            case "getText" -> text;
+                            case "hashCode" -> System.identityHashCode(element);
+                            case "equals" -> element == elementArgs[0];
+                            default -> null;
+                        });
+                }
+                case "hashCode" -> System.identityHashCode(proxy);
+                case "equals" -> proxy == args[0];
+                default -> null;
+            });
+        driver = cache.decorate(new CommandCounter().decorate(twoElements));
+        WebElement subtotal = driver.findElement(By.id("subtotal"));
+        WebElement total = driver.findElement(By.id("total"));
+
+        assertEquals(subtotal.getText(), "By.id: subtotal");
+        assertEquals(total.getText(), "By.id: total");
+        assertEquals(cache.getHitCount(), 0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.framework.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for ReadOnlyPageSession against a fake driver returning a settable DOM hash (no browser needed)
+ */
+public class ReadOnlyPageSessionTest {
+
+    private static final String URL = "https://rahulshettyacademy.com/AutomationPractice/";
+
+    @ReadOnlyPage
+    public void readsTable() {
+    }
+
+    @ReadOnlyPage
+    public void readsHeaders() {
+    }
+
+    public void clicksCheckbox() {
+    }
+
+    private static WebDriver driverWithDomHash(AtomicReference<String> domHash) {
+        return (WebDriver) Proxy.newProxyInstance(ReadOnlyPageSessionTest.class.getClassLoader(),
+            new Class<?>[]{WebDriver.class, JavascriptExecutor.class},
+            (proxy, method, args) -> method.getName().equals("executeScript")
+                    ? List.of("undefined", URL, "complete", domHash.get(), "0", "0", "0") // PageNavigator's fingerprint
+                    : null);
+    }
+
+    private static Method test(String name) throws NoSuchMethodException {
+        return ReadOnlyPageSessionTest.class.getMethod(name);
+    }
+
+    @Test
+    public void testUnchangedPageIsReused() throws NoSuchMethodException {
+        AtomicReference<String> domHash = new AtomicReference<>("100:42");
+        WebDriver driver = driverWithDomHash(domHash);
+
+        ReadOnlyPageSession.beforeTest(test("readsTable"));
+        assertFalse(ReadOnlyPageSession.reuse(driver, URL), "Nothing loaded yet");
+        ReadOnlyPageSession.loaded(driver, URL);
+
+        ReadOnlyPageSession.beforeTest(test("readsHeaders"));
+        assertTrue(ReadOnlyPageSession.reuse(driver, URL));
+        assertFalse(ReadOnlyPageSession.reuse(driver, "https://www.saucedemo.com/"), "Different page");
+    }
+
+    @Test
+    public void testChangedPageIsLoadedAgain() throws NoSuchMethodException {
+        AtomicReference<String> domHash = new AtomicReference<>("100:42");
+        WebDriver driver = driverWithDomHash(domHash);
+        ReadOnlyPageSession.beforeTest(test("readsTable"));
+        ReadOnlyPageSession.loaded(driver, URL);
+
+        domHash.set("101:7");
+        ReadOnlyPageSession.beforeTest(test("readsHeaders"));
+
+        assertFalse(ReadOnlyPageSession.reuse(driver, URL));
+    }
+
+    @Test
+    public void testMutatingTestDoesNotShareItsPage() throws NoSuchMethodException {
+        WebDriver driver = driverWithDomHash(new AtomicReference<>("100:42"));
+        ReadOnlyPageSession.beforeTest(test("clicksCheckbox"));
+        ReadOnlyPageSession.loaded(driver, URL);
+
+        ReadOnlyPageSession.beforeTest(test("readsTable"));
+
+        assertFalse(ReadOnlyPageSession.reuse(driver, URL));
+    }
+}
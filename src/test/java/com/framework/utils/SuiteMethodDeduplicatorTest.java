@@ -0,0 +1,90 @@
+package com.framework.utils;
+
+import org.testng.annotations.Test;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for SuiteMethodDeduplicator on in-memory suite definitions (no browser needed)
+ */
+public class SuiteMethodDeduplicatorTest {
+
+    private static final String INCLUDED_CLASS = LongestFirstSchedulerTest.class.getName();
+    private static final String WHOLE_CLASS = TestShardFilterTest.class.getName();
+
+    private static XmlSuite suite(XmlSuite parent, String name) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(name);
+        if (parent != null) {
+            suite.setParentSuite(parent);
+            parent.getChildSuites().add(suite);
+        }
+        return suite;
+    }
+
+    private static XmlClass addClass(XmlSuite suite, String className, String... includes) {
+        XmlTest test = new XmlTest(suite);
+        test.setName(suite.getName() + " tests");
+        XmlClass xmlClass = new XmlClass(className);
+        xmlClass.setIncludedMethods(Arrays.stream(includes).map(XmlInclude::new).toList());
+        test.getXmlClasses().add(xmlClass);
+        return xmlClass;
+    }
+
+    private static List<String> includeNames(XmlClass xmlClass) {
+        return xmlClass.getIncludedMethods().stream().map(XmlInclude::getName).toList();
+    }
+
+    @Test
+    public void testLaterSuitesDropMethodsAlreadySelected() {
+        XmlSuite master = suite(null, "Master");
+        XmlSuite smoke = suite(master, "Smoke");
+        XmlSuite regression = suite(master, "Regression");
+        XmlClass smokeClass = addClass(smoke, INCLUDED_CLASS, "dedupAlert", "dedupNameInput");
+        XmlClass regressionClass = addClass(regression, INCLUDED_CLASS, "dedupAlert", "dedupNameInput", "dedupConfirm");
+
+        int eliminated = new SuiteMethodDeduplicator().deduplicate(List.of(master));
+
+        assertEquals(eliminated, 2);
+        assertEquals(includeNames(smokeClass), List.of("dedupAlert", "dedupNameInput"));
+        assertEquals(includeNames(regressionClass), List.of("dedupConfirm"));
+        assertEquals(SuiteMethodDeduplicator.getCreditedSuites(INCLUDED_CLASS + ".dedupAlert"),
+                Set.of("Smoke", "Regression"), "Both suites are credited for the single execution");
+    }
+
+    @Test
+    public void testFullyDuplicatedEntriesAreRemoved() {
+        XmlSuite master = suite(null, "Master");
+        XmlSuite functional = suite(master, "Functional");
+        XmlSuite regression = suite(master, "Regression");
+        addClass(functional, WHOLE_CLASS);
+        addClass(regression, WHOLE_CLASS);
+
+        int eliminated = new SuiteMethodDeduplicator().deduplicate(List.of(master));
+
+        assertEquals(eliminated, 4, "All four test methods of the class were already selected");
+        assertTrue(regression.getTests().isEmpty(), "An empty class entry would otherwise select the whole class");
+        assertEquals(functional.getTests().get(0).getXmlClasses().get(0).getExcludedMethods(), List.of());
+    }
+
+    @Test
+    public void testDifferentParametersAreNotDuplicates() {
+        XmlSuite master = suite(null, "Master");
+        XmlSuite chrome = suite(master, "Chrome");
+        XmlSuite firefox = suite(master, "Firefox");
+        addClass(chrome, INCLUDED_CLASS, "dedupBrowser");
+        addClass(firefox, INCLUDED_CLASS, "dedupBrowser");
+        chrome.getTests().get(0).addParameter("browser", "chrome");
+        firefox.getTests().get(0).addParameter("browser", "firefox");
+
+        assertEquals(new SuiteMethodDeduplicator().deduplicate(List.of(master)), 0);
+    }
+}
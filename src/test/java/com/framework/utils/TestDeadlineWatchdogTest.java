@@ -0,0 +1,76 @@
+package com.framework.utils;
+
+import org.testng.IInvokedMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.framework.utils.FakeTestNG.invocation;
+import static com.framework.utils.FakeTestNG.method;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TestDeadlineWatchdog with fake TestNG invocations on the calling thread (no browser needed)
+ */
+public class TestDeadlineWatchdogTest {
+
+    /**
+     * Result that keeps the status and throwable set on it
+     */
+    private static ITestResult result() {
+        Map<String, Object> state = new HashMap<>(Map.of("status", ITestResult.SUCCESS));
+        return (ITestResult) Proxy.newProxyInstance(TestDeadlineWatchdogTest.class.getClassLoader(),
+            new Class<?>[]{ITestResult.class},
+            (proxy, invoked, args) -> switch (invoked.getName()) {
+                case "setStatus" -> state.put("status", args[0]);
+                case "getStatus" -> state.get("status");
+                case "isSuccess" -> state.get("status").equals(ITestResult.SUCCESS);
+                case "setThrowable" -> state.put("throwable", args[0]);
+                case "getThrowable" -> state.get("throwable");
+                default -> null;
+            });
+    }
+
+    @Test
+    public void testHungTestIsInterruptedAndFailedWithItsStack() {
+        TestDeadlineWatchdog watchdog = new TestDeadlineWatchdog(200);
+        IInvokedMethod invocation = invocation(method("hangs", 0).getMethod());
+        ITestResult result = result();
+
+        watchdog.beforeInvocation(invocation, result);
+        long start = System.nanoTime();
+        try {
+            Thread.sleep(10_000);
+            fail("The watchdog did not interrupt the test");
+        } catch (InterruptedException e) {
+            result.setThrowable(e);
+        }
+        watchdog.afterInvocation(invocation, result);
+
+        assertTrue(System.nanoTime() - start < 5_000_000_000L);
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(result.getStatus(), ITestResult.FAILURE);
+        assertTrue(result.getThrowable() instanceof TestDeadlineExceededException);
+        assertTrue(result.getThrowable().getMessage().contains("Suite.hangs exceeded its deadline"));
+        assertTrue(result.getThrowable().getMessage().contains("testHungTestIsInterruptedAndFailedWithItsStack"));
+        assertTrue(result.getThrowable().getCause() instanceof InterruptedException);
+    }
+
+    @Test
+    public void testTestFinishingInTimeIsLeftAlone() throws InterruptedException {
+        TestDeadlineWatchdog watchdog = new TestDeadlineWatchdog(300);
+        IInvokedMethod invocation = invocation(method("hangs", 0).getMethod());
+        ITestResult result = result();
+
+        watchdog.beforeInvocation(invocation, result);
+        watchdog.afterInvocation(invocation, result);
+        Thread.sleep(600); // Past the deadline, after the test ended
+
+        assertFalse(Thread.currentThread().isInterrupted());
+        assertEquals(result.getStatus(), ITestResult.SUCCESS);
+        assertNull(result.getThrowable());
+    }
+}
@@ -0,0 +1,94 @@
+package com.framework.utils;
+
+import com.framework.pages.BasePage;
+import com.framework.tests.rahulshetty.AlertTest;
+import com.framework.tests.saucedemo.CartPageTest;
+import org.testng.IMethodInstance;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static com.framework.utils.FakeTestNG.method;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TestImpactIndex and TestImpactSelector on the compiled project classes (no browser needed)
+ */
+public class TestImpactIndexTest {
+
+    private static final String CART_PAGE = "com.framework.pages.saucedemo.CartPage";
+    private static final String HOME_PAGE = "com.framework.pages.rahulshetty.HomePage";
+
+    private TestImpactIndex index;
+    private Path indexFile;
+
+    @BeforeClass
+    public void scanCompiledClasses() throws URISyntaxException, IOException {
+        index = TestImpactIndex.scan(List.of(
+                Path.of(BasePage.class.getProtectionDomain().getCodeSource().getLocation().toURI()),
+                Path.of(CartPageTest.class.getProtectionDomain().getCodeSource().getLocation().toURI())));
+        indexFile = Files.createTempFile("test-impact-index", ".properties");
+        indexFile.toFile().deleteOnExit();
+        System.setProperty("impact.indexFile", indexFile.toString());
+    }
+
+    private List<String> select(List<IMethodInstance> methods, String... changedFiles) {
+        return new TestImpactSelector().select(methods, List.of(changedFiles), index,
+                        List.of(TestImpactSelector.class.getName())).stream()
+                .map(instance -> instance.getMethod().getMethodName())
+                .toList();
+    }
+
+    @Test
+    public void testTestsReachTheirOwnPageObjectsOnly() {
+        Set<String> cartTest = index.reachedClasses(CartPageTest.class, "testEmptyCartDisplay");
+        Set<String> alertTest = index.reachedClasses(AlertTest.class, "testAlertWithEnteredName");
+
+        assertTrue(cartTest.contains(CART_PAGE), cartTest.toString());
+        assertTrue(cartTest.contains(BasePage.class.getName()), cartTest.toString());
+        assertFalse(cartTest.contains(HOME_PAGE), cartTest.toString());
+        assertTrue(alertTest.contains(HOME_PAGE), alertTest.toString());
+        assertFalse(alertTest.contains(CART_PAGE), alertTest.toString());
+    }
+
+    @Test
+    public void testChangedPageObjectSelectsTheTestsReachingIt() throws IOException {
+        List<IMethodInstance> methods = List.of(method(CartPageTest.class, "testEmptyCartDisplay"),
+                method(AlertTest.class, "testAlertWithEnteredName"));
+
+        assertEquals(select(methods, "src/main/java/com/framework/pages/saucedemo/CartPage.java", "README.md"),
+                List.of("testEmptyCartDisplay"));
+        assertEquals(select(methods, "README.md"), List.of());
+        TestImpactSelector.writeIndex();
+        assertTrue(Files.readString(indexFile).contains(CartPageTest.class.getName() + ".testEmptyCartDisplay="));
+    }
+
+    @Test
+    public void testSelectedTestKeepsTheTestsItDependsOn() {
+        List<IMethodInstance> methods = List.of(method(CartPageTest.class, "testEmptyCartDisplay"),
+                method(AlertTest.class, "testAlertWithEnteredName",
+                        CartPageTest.class.getName() + ".testEmptyCartDisplay"));
+
+        assertEquals(select(methods, "src/main/java/com/framework/pages/rahulshetty/HomePage.java"),
+                List.of("testEmptyCartDisplay", "testAlertWithEnteredName"));
+    }
+
+    @Test
+    public void testSharedInfrastructureRunsEverything() {
+        List<IMethodInstance> methods = List.of(method(CartPageTest.class, "testEmptyCartDisplay"),
+                method(AlertTest.class, "testAlertWithEnteredName"));
+        List<String> all = List.of("testEmptyCartDisplay", "testAlertWithEnteredName");
+
+        assertEquals(select(methods, "src/main/java/com/framework/pages/BasePage.java"), all);
+        assertEquals(select(methods, "src/main/resources/config/config.properties"), all);
+        assertEquals(select(methods, "pom.xml"), all);
+        // Reached by the (listener) selector itself
+        assertEquals(select(methods, "src/main/java/com/framework/utils/LongestFirstScheduler.java"), all);
+    }
+}
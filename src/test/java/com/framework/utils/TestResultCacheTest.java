@@ -0,0 +1,82 @@
+package com.framework.utils;
+
+import com.framework.pages.BasePage;
+import com.framework.tests.rahulshetty.AlertTest;
+import com.framework.tests.saucedemo.CartPageTest;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TestResultCache and the input keys of ResultCacheListener (no browser needed)
+ */
+public class TestResultCacheTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    private static Path tempFile() throws IOException {
+        Path file = Files.createTempFile("result-cache", ".properties");
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test
+    public void testPassIsAnsweredOnlyForTheSameKeyWithinMaxAge() throws IOException {
+        TestResultCache cache = TestResultCache.load(tempFile(), 24 * HOUR);
+
+        cache.recordPassed("Suite.test", "abc", 0);
+
+        assertTrue(cache.hasPassed("Suite.test", "abc", 23 * HOUR));
+        assertFalse(cache.hasPassed("Suite.test", "abd", 23 * HOUR));
+        assertFalse(cache.hasPassed("Suite.test", "abc", 25 * HOUR));
+        assertFalse(cache.hasPassed("Suite.other", "abc", 0));
+    }
+
+    @Test
+    public void testEntriesSurviveSaveAndForgetRemovesThem() throws IOException {
+        Path file = tempFile();
+        TestResultCache cache = TestResultCache.load(file, 24 * HOUR);
+        cache.recordPassed("Suite.kept", "k1", 1000);
+        cache.recordPassed("Suite.failedLater", "k2", 1000);
+        cache.forget("Suite.failedLater");
+        cache.save();
+
+        TestResultCache reloaded = TestResultCache.load(file, 24 * HOUR);
+
+        assertTrue(reloaded.hasPassed("Suite.kept", "k1", 2000));
+        assertFalse(reloaded.hasPassed("Suite.failedLater", "k2", 2000));
+    }
+
+    @Test
+    public void testUnreadableCacheIsIgnored() throws IOException {
+        Path file = tempFile();
+        Files.writeString(file, "Suite.test=no-time\n");
+
+        assertFalse(TestResultCache.load(file, 24 * HOUR).hasPassed("Suite.test", "no-time", 0));
+    }
+
+    @Test
+    public void testKeyDependsOnReachedCodeAndParameters() throws Exception {
+        List<Path> directories = TestImpactIndex.classDirectories(List.of(BasePage.class, CartPageTest.class));
+        TestImpactIndex index = TestImpactIndex.scan(directories);
+        String resources = ResultCacheListener.hashResources(directories);
+
+        String cartTest = ResultCacheListener.key(index, resources, CartPageTest.class, "testEmptyCartDisplay", Map.of());
+
+        assertEquals(ResultCacheListener.key(index, resources, CartPageTest.class, "testEmptyCartDisplay", Map.of()),
+                cartTest);
+        assertNotEquals(ResultCacheListener.key(index, resources, AlertTest.class, "testAlertWithEnteredName",
+                Map.of()), cartTest);
+        assertNotEquals(ResultCacheListener.key(index, resources, CartPageTest.class, "testEmptyCartDisplay",
+                Map.of("browser", "firefox")), cartTest);
+        assertNotEquals(ResultCacheListener.key(index, "other resources", CartPageTest.class, "testEmptyCartDisplay",
+                Map.of()), cartTest);
+        assertNull(ResultCacheListener.key(index, resources, String.class, "length", Map.of()));
+    }
+}
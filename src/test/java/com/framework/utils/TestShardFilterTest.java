@@ -0,0 +1,66 @@
+package com.framework.utils;
+
+import org.testng.IMethodInstance;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static com.framework.utils.LongestFirstSchedulerTest.historyWith;
+import static com.framework.utils.FakeTestNG.method;
+import static com.framework.utils.FakeTestNG.names;
+import static org.testng.Assert.*;
+
+/**
+ * Unit tests for TestShardFilter with fake TestNG methods (no browser needed)
+ */
+public class TestShardFilterTest {
+
+    private static final List<IMethodInstance> METHODS = List.of(
+            method("a", 0), method("b", 0), method("c", 0), method("d", 0), method("e", 0));
+
+    private static List<List<String>> shards(TestShardFilter filter, List<IMethodInstance> methods, int total) {
+        List<List<String>> shards = new ArrayList<>();
+        for (int index = 0; index < total; index++) {
+            shards.add(names(filter.select(methods, index, total)));
+        }
+        return shards;
+    }
+
+    @Test
+    public void testShardsAreDisjointAndComplete() throws IOException {
+        List<List<String>> shards = shards(new TestShardFilter(historyWith(Map.of())), METHODS, 3);
+
+        List<String> all = shards.stream().flatMap(List::stream).sorted().toList();
+        assertEquals(all, List.of("a", "b", "c", "d", "e"), "Hash fallback must place every method exactly once");
+    }
+
+    @Test
+    public void testRecordedDurationsAreBinPacked() throws IOException {
+        TestShardFilter filter = new TestShardFilter(
+                historyWith(Map.of("a", 9000L, "b", 5000L, "c", 4000L, "d", 3000L, "e", 1000L)));
+
+        List<List<String>> shards = shards(filter, METHODS, 2);
+
+        assertEquals(shards, List.of(List.of("a", "d"), List.of("b", "c", "e")),
+                "Longest first onto the least loaded shard: 12s vs 10s");
+    }
+
+    @Test
+    public void testDependentMethodsStayOnOneShard() throws IOException {
+        TestShardFilter filter = new TestShardFilter(historyWith(Map.of("login", 9000L, "checkout", 9000L)));
+        List<IMethodInstance> methods = List.of(method("login", 0), method("checkout", 0, "Suite.login"),
+                method("browse", 0), method("search", 0));
+
+        for (List<String> shard : shards(filter, methods, 2)) {
+            assertEquals(shard.contains("login"), shard.contains("checkout"));
+        }
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class)
+    public void testIndexOutsideTotalIsRejected() throws IOException {
+        new TestShardFilter(historyWith(Map.of())).select(METHODS, 2, 2);
+    }
+}
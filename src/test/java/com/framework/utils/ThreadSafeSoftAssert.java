@@ -0,0 +1,50 @@
+package com.framework.utils;
+
+import org.testng.asserts.IAssert;
+import org.testng.asserts.SoftAssert;
+
+/**
+ * SoftAssert that keeps the collected failures per thread.
+ * One instance can be shared by all tests of a class running in parallel="methods";
+ * assertAll() only reports (and clears) the failures of the calling thread's test.
+ */
+public class ThreadSafeSoftAssert extends SoftAssert {
+
+    private final ThreadLocal<ThreadAssert> current = ThreadLocal.withInitial(ThreadAssert::new);
+
+    @Override
+    protected void doAssert(IAssert<?> assertCommand) {
+        current.get().collect(assertCommand);
+    }
+
+    @Override
+    public void assertAll() {
+        try {
+            current.get().assertAll();
+        } finally {
+            current.remove();
+        }
+    }
+
+    @Override
+    public void assertAll(String message) {
+        try {
+            current.get().assertAll(message);
+        } finally {
+            current.remove();
+        }
+    }
+
+    /**
+     * Drop the calling thread's failures, e.g. left over by a test that never called assertAll()
+     */
+    public void reset() {
+        current.remove();
+    }
+
+    private static class ThreadAssert extends SoftAssert {
+        void collect(IAssert<?> assertCommand) {
+            doAssert(assertCommand);
+        }
+    }
+}
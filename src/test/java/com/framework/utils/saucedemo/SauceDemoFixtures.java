@@ -0,0 +1,218 @@
+package com.framework.utils.saucedemo;
+
+import com.framework.pages.FillMode;
+import com.framework.pages.saucedemo.CartPage;
+import com.framework.pages.saucedemo.CheckoutOverviewPage;
+import com.framework.pages.saucedemo.CheckoutStepOnePage;
+import com.framework.pages.saucedemo.InventoryPage;
+import com.framework.pages.saucedemo.LoginPage;
+import com.framework.utils.ConfigReader;
+import com.framework.utils.Fixture;
+import com.framework.utils.FixtureGraph;
+import com.framework.utils.PageNavigator;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * SauceDemo fixture nodes for @Precondition paths:
+ *   loggedIn(user)          - logged in, empty cart, on the inventory page
+ *   cartWith(product, ...)  - these products in the cart, in this order (ids of the add-to-cart buttons)
+ *   atCheckoutStep(n)       - 1 = your information, 2 = overview, 3 = order complete (cart emptied)
+ *
+ * SauceDemo keeps all of this in the browser: the session-username cookie and the cart-contents entry of
+ * localStorage (a JSON array of product ids). That is what holds() reads and inject() writes; checkout
+ * steps 1 and 2 have no state of their own and are shown by URL. Step 3 is the exception: the order-complete
+ * page opens for any logged-in user, so only clicking Finish on a real order reaches it, and it is always
+ * built through the UI.
+ */
+public final class SauceDemoFixtures {
+
+    public static final FixtureGraph GRAPH = new FixtureGraph()
+            .node("loggedIn", (parent, arguments) -> new LoggedIn(single(arguments, "loggedIn")))
+            .node("cartWith", (parent, arguments) -> new CartWith(
+                    parentOf(parent, LoggedIn.class, "cartWith"), arguments))
+            .node("atCheckoutStep", (parent, arguments) -> new AtCheckoutStep(
+                    parentOf(parent, CartWith.class, "atCheckoutStep"),
+                    Integer.parseInt(single(arguments, "atCheckoutStep"))));
+
+    /**
+     * Product ids SauceDemo stores in cart-contents, by the id used in its add-to-cart buttons
+     */
+    private static final Map<String, Integer> PRODUCT_IDS = Map.of(
+            "sauce-labs-backpack", 4,
+            "sauce-labs-bike-light", 0,
+            "sauce-labs-bolt-t-shirt", 1,
+            "sauce-labs-fleece-jacket", 5,
+            "sauce-labs-onesie", 2,
+            "test.allthethings()-t-shirt-(red)", 3);
+
+    private static final String SESSION_COOKIE = "session-username";
+
+    private static final String READ_STATE =
+            "if (location.origin !== arguments[0]) { return null; }" +
+            "var cookie = document.cookie.split('; ').filter(function (c) {" +
+            "  return c.indexOf('session-username=') === 0;" +
+            "})[0];" +
+            "return [cookie ? cookie.substring(17) : '', localStorage.getItem('cart-contents') || '[]'];";
+
+    private SauceDemoFixtures() {
+        throw new UnsupportedOperationException("SauceDemoFixtures is a utility class and cannot be instantiated");
+    }
+
+    private static String baseUrl() {
+        return ConfigReader.getBaseUrl(2);
+    }
+
+    private static String pageUrl(String page) {
+        return baseUrl() + "/" + page;
+    }
+
+    /**
+     * @return [logged-in user, cart-contents JSON], or null when the browser is not on SauceDemo
+     */
+    private static List<?> readState(WebDriver driver) {
+        return (List<?>) ((JavascriptExecutor) driver).executeScript(READ_STATE, baseUrl());
+    }
+
+    private static String single(List<String> arguments, String node) {
+        if (arguments.size() != 1) {
+            throw new IllegalArgumentException(node + " takes one argument, got " + arguments);
+        }
+        return arguments.get(0);
+    }
+
+    private static <T extends Fixture> T parentOf(Fixture parent, Class<T> type, String node) {
+        if (!type.isInstance(parent)) {
+            throw new IllegalArgumentException(node + " must follow " + type.getSimpleName());
+        }
+        return type.cast(parent);
+    }
+
+    private record LoggedIn(String user) implements Fixture {
+
+        /**
+         * Whether this user is logged in with the given cart
+         */
+        boolean holdsWithCart(WebDriver driver, String cartContents) {
+            List<?> state = readState(driver);
+            return state != null && user.equals(state.get(0)) && cartContents.equals(state.get(1));
+        }
+
+        @Override
+        public boolean holds(WebDriver driver) {
+            return holdsWithCart(driver, "[]");
+        }
+
+        @Override
+        public void build(WebDriver driver) {
+            PageNavigator.open(driver, baseUrl());
+            new LoginPage(driver).login(user, SauceDemoConstants.PASSWORD, FillMode.FAST);
+        }
+
+        @Override
+        public boolean inject(WebDriver driver) {
+            PageNavigator.open(driver, baseUrl()); // Cookies and storage can only be set on the site itself
+            driver.manage().addCookie(new Cookie(SESSION_COOKIE, user, "/"));
+            ((JavascriptExecutor) driver).executeScript("localStorage.removeItem('cart-contents');");
+            return true;
+        }
+
+        @Override
+        public void show(WebDriver driver) {
+            PageNavigator.open(driver, pageUrl(SauceDemoConstants.INVENTORY_URL));
+        }
+    }
+
+    private record CartWith(LoggedIn parent, List<String> products) implements Fixture {
+
+        CartWith {
+            for (String product : products) {
+                if (!PRODUCT_IDS.containsKey(product)) {
+                    throw new IllegalArgumentException("Unknown product '" + product + "', expected one of "
+                            + PRODUCT_IDS.keySet());
+                }
+            }
+        }
+
+        String cartContents() {
+            return products.stream().map(product -> String.valueOf(PRODUCT_IDS.get(product)))
+                    .collect(Collectors.joining(",", "[", "]"));
+        }
+
+        @Override
+        public boolean holds(WebDriver driver) {
+            return parent.holdsWithCart(driver, cartContents());
+        }
+
+        @Override
+        public void build(WebDriver driver) {
+            InventoryPage inventoryPage = new InventoryPage(driver);
+            products.forEach(inventoryPage::addItemToCart);
+        }
+
+        @Override
+        public boolean inject(WebDriver driver) {
+            parent.inject(driver);
+            ((JavascriptExecutor) driver).executeScript("localStorage.setItem('cart-contents', arguments[0]);",
+                    cartContents());
+            return true;
+        }
+
+        @Override
+        public void show(WebDriver driver) {
+            parent.show(driver);
+        }
+    }
+
+    private record AtCheckoutStep(CartWith parent, int step) implements Fixture {
+
+        private static final List<String> PAGES = List.of(SauceDemoConstants.CHECKOUT_STEP_ONE_URL,
+                SauceDemoConstants.CHECKOUT_STEP_TWO_URL, SauceDemoConstants.CHECKOUT_COMPLETE_URL);
+
+        AtCheckoutStep {
+            if (step < 1 || step > PAGES.size()) {
+                throw new IllegalArgumentException("atCheckoutStep takes 1 to " + PAGES.size() + ", got " + step);
+            }
+        }
+
+        private boolean isOrderComplete() {
+            return step == PAGES.size();
+        }
+
+        /**
+         * A completed order leaves nothing behind to check (the cart is just empty), so it never holds
+         */
+        @Override
+        public boolean holds(WebDriver driver) {
+            return !isOrderComplete() && parent.holds(driver);
+        }
+
+        @Override
+        public void build(WebDriver driver) {
+            new InventoryPage(driver).clickShoppingCart();
+            new CartPage(driver).clickCheckout();
+            if (step >= 2) {
+                new CheckoutStepOnePage(driver).completeCheckoutStepOne(SauceDemoConstants.CHECKOUT_FIRST_NAME,
+                        SauceDemoConstants.CHECKOUT_LAST_NAME, SauceDemoConstants.CHECKOUT_POSTAL_CODE, FillMode.FAST);
+            }
+            if (step >= 3) {
+                new CheckoutOverviewPage(driver).clickFinish();
+            }
+        }
+
+        @Override
+        public boolean inject(WebDriver driver) {
+            return !isOrderComplete() && parent.inject(driver);
+        }
+
+        @Override
+        public void show(WebDriver driver) {
+            PageNavigator.open(driver, pageUrl(PAGES.get(step - 1)));
+        }
+    }
+}